@@ -0,0 +1,40 @@
+package com.example.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크
+ *
+ * <p>포크마다 새 JVM에서 한 번만 실행하여(cold start) 컨텍스트 기동부터 첫 인증 완료까지의 시간을 측정합니다.
+ * {@code jmhCds} 태스크는 jar로만 구성된 클래스패스에서 {@code generateCdsArchive}로 만든 AppCDS 아카이브를 사용해 포크합니다.</p>
+ *
+ * <pre>
+ * ./gradlew :domain-module:jmh       # 아카이브 미사용
+ * ./gradlew :domain-module:jmhCds    # 아카이브 사용
+ * </pre>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see StartupProbe
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Benchmark
+    public StartupProbe.Result timeToFirstAuthenticate() {
+        return StartupProbe.run();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.domain;
+
+import com.example.domain.entity.User;
+import com.example.domain.service.UserService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 측정기
+ *
+ * <p>util/encrypt/domain 모듈 컴포넌트와 H2 기반 JPA 설정으로 Spring 컨텍스트를 띄운 뒤,
+ * 사용자 한 명을 등록하고 첫 {@link UserService#authenticate(String, String)} 호출이 끝날 때까지의 시간을 측정합니다.</p>
+ *
+ * <p>{@code generateCdsArchive} 태스크의 학습 실행과 {@link StartupBenchmark}가 이 클래스를 사용합니다.</p>
+ *
+ * <pre>
+ * ./gradlew :domain-module:startupProbe          # AppCDS 아카이브가 있으면 사용
+ * ./gradlew :domain-module:startupProbe -PnoCds  # 아카이브 없이 실행
+ * </pre>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class StartupProbe {
+
+    private StartupProbe() {
+    }
+
+    /**
+     * 측정 대상 애플리케이션 구성
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = {"com.example.util", "com.example.encrypt", "com.example.domain"})
+    static class ProbeApplication {
+    }
+
+    /**
+     * 측정 결과
+     *
+     * @param contextReadyNanos 컨텍스트 기동 완료까지 걸린 시간 (나노초)
+     * @param firstAuthenticateNanos 첫 인증 완료까지 걸린 시간 (나노초)
+     * @param authenticated 인증 성공 여부
+     */
+    public record Result(long contextReadyNanos, long firstAuthenticateNanos, boolean authenticated) {
+    }
+
+    /**
+     * 컨텍스트를 기동하고 첫 인증까지 수행한 뒤 컨텍스트를 닫습니다.
+     *
+     * @return 측정 결과
+     */
+    public static Result run() {
+        long start = System.nanoTime();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProbeApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run()) {
+            long contextReady = System.nanoTime() - start;
+
+            UserService userService = context.getBean(UserService.class);
+            userService.registerUser(new User("startup-probe", "probe@example.com", "probe-password"));
+            boolean authenticated = userService.authenticate("startup-probe", "probe-password");
+
+            return new Result(contextReady, System.nanoTime() - start, authenticated);
+        }
+    }
+
+    /**
+     * 한 번 측정하고 결과를 출력합니다.
+     *
+     * @param args 사용하지 않음
+     */
+    public static void main(String[] args) {
+        Result result = run();
+        if (!result.authenticated()) {
+            throw new IllegalStateException("Startup probe failed to authenticate");
+        }
+
+        System.out.printf("context-ready: %d ms, time-to-first-authenticate: %d ms, jvm-uptime: %d ms%n",
+            TimeUnit.NANOSECONDS.toMillis(result.contextReadyNanos()),
+            TimeUnit.NANOSECONDS.toMillis(result.firstAuthenticateNanos()),
+            ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.domain.aot;
+
+import com.example.domain.entity.DailyRegistration;
+import com.example.domain.entity.User;
+import com.example.domain.entity.UserStatistics;
+import com.example.domain.repository.DailyRegistrationRepository;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.repository.UserStatisticsRepository;
+import com.example.domain.service.UserService;
+import com.example.domain.service.UserStatisticsService;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+
+/**
+ * domain-module의 AOT 런타임 힌트
+ *
+ * <p>Spring AOT 처리 및 네이티브 이미지 빌드 시 다음 정보를 등록합니다.
+ * {@code META-INF/spring/aot.factories}를 통해 자동으로 적용됩니다.</p>
+ *
+ * <ul>
+ *   <li>엔티티: Hibernate가 필드 접근과 콜백({@code @PrePersist}, {@code @PreUpdate}) 호출에 사용하는 리플렉션</li>
+ *   <li>리포지토리: Spring Data가 생성하는 JDK 프록시 인터페이스 조합과 쿼리 메서드</li>
+ *   <li>서비스: 트랜잭션 프록시 대상 빈</li>
+ * </ul>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DomainRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entity : new Class<?>[] {User.class, UserStatistics.class, DailyRegistration.class}) {
+            hints.reflection().registerType(entity,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        for (Class<?> repository : new Class<?>[] {
+                UserRepository.class, UserStatisticsRepository.class, DailyRegistrationRepository.class}) {
+            hints.reflection().registerType(repository, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(
+                repository,
+                Repository.class,
+                TransactionalProxy.class,
+                Advised.class,
+                DecoratingProxy.class);
+        }
+
+        for (Class<?> service : new Class<?>[] {UserService.class, UserStatisticsService.class}) {
+            hints.reflection().registerType(service,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 가입자 수 엔티티
+ *
+ * <p>가입일({@link User#getCreatedAt()}의 날짜)별로 현재 존재하는 사용자 수를 보관합니다.
+ * 사용자가 삭제되면 해당 가입일의 수도 함께 줄어듭니다.</p>
+ *
+ * <p><strong>테이블 매핑:</strong> user_daily_registrations</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "user_daily_registrations")
+public class DailyRegistration {
+
+    /**
+     * 가입일
+     */
+    @Id
+    private LocalDate registrationDate;
+
+    /**
+     * 해당 날짜에 가입한 사용자 수
+     */
+    @Column(nullable = false)
+    private long userCount;
+
+    // Constructors
+
+    /**
+     * 기본 생성자
+     */
+    public DailyRegistration() {
+    }
+
+    /**
+     * 일별 가입자 수를 생성합니다.
+     *
+     * @param registrationDate 가입일
+     * @param userCount 가입자 수
+     */
+    public DailyRegistration(LocalDate registrationDate, long userCount) {
+        this.registrationDate = registrationDate;
+        this.userCount = userCount;
+    }
+
+    // Getters
+
+    /**
+     * 가입일을 반환합니다.
+     *
+     * @return 가입일
+     */
+    public LocalDate getRegistrationDate() {
+        return registrationDate;
+    }
+
+    /**
+     * 가입자 수를 반환합니다.
+     *
+     * @return 가입자 수
+     */
+    public long getUserCount() {
+        return userCount;
+    }
+}
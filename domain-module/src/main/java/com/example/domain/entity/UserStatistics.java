@@ -0,0 +1,113 @@
+package com.example.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 통계 요약 엔티티
+ *
+ * <p>전체 사용자 수와 활성 사용자 수를 보관하는 단일 행 요약 테이블입니다.
+ * {@link com.example.domain.service.UserStatisticsService}가 주기적으로 증분을 반영합니다.</p>
+ *
+ * <p><strong>테이블 매핑:</strong> user_statistics</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "user_statistics")
+public class UserStatistics {
+
+    /**
+     * 요약 행의 고정 식별자
+     */
+    public static final Long SUMMARY_ID = 1L;
+
+    /**
+     * 요약 행 식별자 (항상 {@link #SUMMARY_ID})
+     */
+    @Id
+    private Long id;
+
+    /**
+     * 전체 사용자 수
+     */
+    @Column(nullable = false)
+    private long totalUsers;
+
+    /**
+     * 활성화된 사용자 수
+     */
+    @Column(nullable = false)
+    private long enabledUsers;
+
+    /**
+     * 마지막 갱신 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+
+    /**
+     * 기본 생성자
+     */
+    public UserStatistics() {
+    }
+
+    /**
+     * 요약 행을 생성합니다.
+     *
+     * @param totalUsers 전체 사용자 수
+     * @param enabledUsers 활성화된 사용자 수
+     */
+    public UserStatistics(long totalUsers, long enabledUsers) {
+        this.id = SUMMARY_ID;
+        this.totalUsers = totalUsers;
+        this.enabledUsers = enabledUsers;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters
+
+    /**
+     * 요약 행 식별자를 반환합니다.
+     *
+     * @return 요약 행 식별자
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 전체 사용자 수를 반환합니다.
+     *
+     * @return 전체 사용자 수
+     */
+    public long getTotalUsers() {
+        return totalUsers;
+    }
+
+    /**
+     * 활성화된 사용자 수를 반환합니다.
+     *
+     * @return 활성화된 사용자 수
+     */
+    public long getEnabledUsers() {
+        return enabledUsers;
+    }
+
+    /**
+     * 마지막 갱신 일시를 반환합니다.
+     *
+     * @return 갱신 일시
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.domain.repository;
+
+import com.example.domain.entity.DailyRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 가입자 수 리포지토리
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see DailyRegistration
+ */
+@Repository
+public interface DailyRegistrationRepository extends JpaRepository<DailyRegistration, LocalDate> {
+
+    /**
+     * 해당 날짜의 가입자 수에 증분을 더합니다.
+     *
+     * @param registrationDate 가입일
+     * @param delta 가입자 수 증분
+     * @return 갱신된 행 수 (해당 날짜의 행이 없으면 0)
+     */
+    @Modifying
+    @Query("update DailyRegistration d set d.userCount = d.userCount + :delta "
+        + "where d.registrationDate = :registrationDate")
+    int addDelta(@Param("registrationDate") LocalDate registrationDate, @Param("delta") long delta);
+}
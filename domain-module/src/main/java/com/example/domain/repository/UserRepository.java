@@ -2,8 +2,10 @@ package com.example.domain.repository;
 
 import com.example.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -53,4 +55,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 이메일이 존재하면 true, 그렇지 않으면 false
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * 활성화된 사용자 수를 조회합니다.
+     * 
+     * <p>통계 재계산({@code UserStatisticsService#rebuild()})에만 사용하며, 대시보드 조회에는 사용하지 마세요.</p>
+     * 
+     * @return 활성화된 사용자 수
+     */
+    long countByEnabledTrue();
+    
+    /**
+     * 가입일별 사용자 수를 집계합니다.
+     * 
+     * <p>통계 재계산({@code UserStatisticsService#rebuild()})에만 사용하며, 대시보드 조회에는 사용하지 마세요.</p>
+     * 
+     * @return {@code [LocalDate 가입일, Long 사용자 수]} 배열 목록
+     */
+    @Query("select cast(u.createdAt as LocalDate), count(u) from User u group by cast(u.createdAt as LocalDate)")
+    List<Object[]> countByRegistrationDate();
 }
@@ -0,0 +1,41 @@
+package com.example.domain.repository;
+
+import com.example.domain.entity.UserStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 통계 요약 리포지토리
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see UserStatistics
+ */
+@Repository
+public interface UserStatisticsRepository extends JpaRepository<UserStatistics, Long> {
+
+    /**
+     * 요약 행에 증분을 더합니다.
+     *
+     * <p>절대값이 아니라 증분을 반영하므로 여러 인스턴스가 동시에 반영해도 값을 덮어쓰지 않습니다.</p>
+     *
+     * @param id 요약 행 식별자
+     * @param totalDelta 전체 사용자 수 증분
+     * @param enabledDelta 활성 사용자 수 증분
+     * @param updatedAt 갱신 일시
+     * @return 갱신된 행 수 (요약 행이 없으면 0)
+     */
+    @Modifying
+    @Query("update UserStatistics s set s.totalUsers = s.totalUsers + :totalDelta, "
+        + "s.enabledUsers = s.enabledUsers + :enabledDelta, s.updatedAt = :updatedAt where s.id = :id")
+    int addDeltas(@Param("id") Long id,
+                  @Param("totalDelta") long totalDelta,
+                  @Param("enabledDelta") long enabledDelta,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+}
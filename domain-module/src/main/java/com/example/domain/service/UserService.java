@@ -14,6 +14,8 @@ import java.util.Optional;
  * 
  * <p>사용자 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.</p>
  * 
+ * <p>등록, 활성화 여부 변경, 삭제는 {@link UserStatisticsService}에 증분으로 기록됩니다.</p>
+ * 
  * @author Spring Multi Module Team
  * @version 1.0.0
  * @since 1.0.0
@@ -24,16 +26,20 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final HashService hashService;
+    private final UserStatisticsService userStatisticsService;
     
     /**
      * UserService 생성자
      * 
      * @param userRepository 사용자 리포지토리
      * @param hashService 해시 서비스
+     * @param userStatisticsService 사용자 통계 서비스
      */
-    public UserService(UserRepository userRepository, HashService hashService) {
+    public UserService(UserRepository userRepository, HashService hashService,
+                       UserStatisticsService userStatisticsService) {
         this.userRepository = userRepository;
         this.hashService = hashService;
+        this.userStatisticsService = userStatisticsService;
     }
     
     /**
@@ -59,7 +65,9 @@ public class UserService {
         String hashedPassword = hashService.sha256(user.getPassword());
         user.setPassword(hashedPassword);
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userStatisticsService.recordRegistered(saved);
+        return saved;
     }
     
     /**
@@ -111,8 +119,9 @@ public class UserService {
             existingUser.setEmail(updatedUser.getEmail());
         }
         
-        if (updatedUser.getEnabled() != null) {
+        if (updatedUser.getEnabled() != null && !updatedUser.getEnabled().equals(existingUser.getEnabled())) {
             existingUser.setEnabled(updatedUser.getEnabled());
+            userStatisticsService.recordEnabledChanged(updatedUser.getEnabled());
         }
         
         return userRepository.save(existingUser);
@@ -126,10 +135,10 @@ public class UserService {
      */
     @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new IllegalArgumentException("User not found: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("User not found: " + id));
+        userRepository.delete(user);
+        userStatisticsService.recordDeleted(user);
     }
     
     /**
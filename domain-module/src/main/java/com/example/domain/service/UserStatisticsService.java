@@ -0,0 +1,507 @@
+package com.example.domain.service;
+
+import com.example.domain.entity.DailyRegistration;
+import com.example.domain.entity.User;
+import com.example.domain.entity.UserStatistics;
+import com.example.domain.repository.DailyRegistrationRepository;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.repository.UserStatisticsRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 통계 서비스
+ *
+ * <p>전체/활성/비활성 사용자 수와 가입일별 사용자 수를 {@code users} 테이블을 스캔하지 않고 제공합니다.
+ * {@link UserService}가 등록, 활성화 여부 변경, 삭제 시 증분을 기록하면 이 서비스는</p>
+ *
+ * <ul>
+ *   <li>메모리의 스트라이프 카운터({@link LongAdder})에 즉시 반영하여 조회를 O(1)로 처리하고,</li>
+ *   <li>아직 저장되지 않은 증분을 {@link #flush()}로 주기적으로 요약 테이블에 더하며,</li>
+ *   <li>{@link #rebuild()}로 {@code users} 테이블에서 모든 값을 다시 계산합니다.</li>
+ * </ul>
+ *
+ * <p>증분은 트랜잭션이 커밋된 뒤에만 반영되므로 롤백된 변경은 통계에 포함되지 않습니다.
+ * 주기 작업은 애플리케이션에 {@code @EnableScheduling}이 선언된 경우에 실행되며,
+ * 주기는 {@code user.statistics.flush-interval-ms}(기본 5초)와 {@code user.statistics.reconcile-cron}(기본 매일 03:30)으로 조정합니다.</p>
+ *
+ * <p>메모리 값은 마지막으로 읽어 온 요약 테이블 값과 이 인스턴스가 아직 저장하지 않은 증분의 합입니다.
+ * 여러 인스턴스가 쓰는 환경에서는 요약 테이블이 기준이며, {@link #flush()}가 저장할 때마다 요약 테이블을 다시 읽어 오므로
+ * 다른 인스턴스가 저장한 증분도 저장 주기 안에 반영됩니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see UserStatistics
+ * @see DailyRegistration
+ */
+@Service
+public class UserStatisticsService {
+
+    private final UserRepository userRepository;
+    private final UserStatisticsRepository statisticsRepository;
+    private final DailyRegistrationRepository dailyRegistrationRepository;
+
+    /**
+     * 증분 저장을 독립 트랜잭션으로 실행하는 템플릿
+     *
+     * <p>종료 시 저장처럼 트랜잭션이 없는 경로에서 {@code this}로 호출되어도 프록시를 거치지 않고 트랜잭션이 적용되며,
+     * 호출자가 실행 중인 트랜잭션의 롤백에 영향을 받지 않습니다.</p>
+     */
+    private final TransactionTemplate statisticsTransaction;
+
+    /**
+     * 요약 테이블 로드와 재계산을 하나의 스냅샷에서 실행하는 독립 트랜잭션 템플릿 ({@code REPEATABLE_READ})
+     *
+     * <p>재계산의 전체/활성/가입일별 집계와 로드의 요약/일별 행 조회가 여러 쿼리로 나뉘어 있으므로,
+     * 그 사이 커밋된 등록이 일부 쿼리에만 포함되어 서로 맞지 않는 값이 저장되는 일을 막습니다.</p>
+     */
+    private final TransactionTemplate snapshotTransaction;
+
+    /**
+     * 조회에 사용하는 현재 값 (요약 테이블 값 + 이후 증분)
+     */
+    private volatile Counters live;
+
+    /**
+     * 아직 요약 테이블에 반영하지 않은 증분
+     */
+    private final Counters pending = new Counters();
+
+    /**
+     * 증분 반영({@link #apply})과 메모리 값 교체 사이의 잠금
+     *
+     * <p>증분 반영은 읽기 잠금으로 서로 동시에 실행되고, {@link #pending} 초기화와 {@link #live} 교체만 쓰기 잠금을 잡습니다.
+     * 따라서 교체 직전에 반영된 증분이 버려지는 카운터에만 더해지는 일이 없습니다.
+     * 증분을 기록한 트랜잭션은 커밋 직전부터 반영이 끝날 때까지 읽기 잠금을 유지합니다.</p>
+     */
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    /**
+     * {@link #pending}이 재계산으로 초기화된 횟수. 초기화 이전에 꺼낸 증분을 되돌리지 않기 위해 사용합니다.
+     */
+    private volatile long pendingGeneration;
+
+    /**
+     * UserStatisticsService 생성자
+     *
+     * @param userRepository 사용자 리포지토리 (재계산용)
+     * @param statisticsRepository 통계 요약 리포지토리
+     * @param dailyRegistrationRepository 일별 가입자 수 리포지토리
+     * @param transactionManager 요약 테이블 로드/저장/재계산용 트랜잭션 매니저 ({@code REPEATABLE_READ}를 지원해야 함)
+     */
+    public UserStatisticsService(UserRepository userRepository,
+                                 UserStatisticsRepository statisticsRepository,
+                                 DailyRegistrationRepository dailyRegistrationRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.dailyRegistrationRepository = dailyRegistrationRepository;
+        this.statisticsTransaction = new TransactionTemplate(transactionManager);
+        this.statisticsTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 전체 사용자 수를 반환합니다.
+     *
+     * @return 전체 사용자 수
+     */
+    public long getTotalUsers() {
+        return counters().total.sum();
+    }
+
+    /**
+     * 활성화된 사용자 수를 반환합니다.
+     *
+     * @return 활성화된 사용자 수
+     */
+    public long getEnabledUsers() {
+        return counters().enabled.sum();
+    }
+
+    /**
+     * 비활성화된 사용자 수를 반환합니다.
+     *
+     * @return 비활성화된 사용자 수
+     */
+    public long getDisabledUsers() {
+        Counters counters = counters();
+        return counters.total.sum() - counters.enabled.sum();
+    }
+
+    /**
+     * 지정한 날짜에 가입한 (현재 존재하는) 사용자 수를 반환합니다.
+     *
+     * @param date 가입일
+     * @return 가입자 수
+     * @throws IllegalArgumentException date가 null인 경우
+     */
+    public long getRegistrations(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        LongAdder count = counters().daily.get(date);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * 기간 내 일별 가입자 수의 합계를 반환합니다. 조회 비용은 기간의 일수에 비례합니다.
+     *
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return 가입자 수 합계
+     * @throws IllegalArgumentException from이나 to가 null이거나 from이 to보다 늦은 경우
+     */
+    public long getRegistrations(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid date range: " + from + " ~ " + to);
+        }
+        Map<LocalDate, LongAdder> daily = counters().daily;
+        long sum = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LongAdder count = daily.get(date);
+            if (count != null) {
+                sum += count.sum();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 사용자 등록을 기록합니다.
+     *
+     * @param user 저장된 사용자 ({@code createdAt}이 설정된 상태)
+     */
+    public void recordRegistered(User user) {
+        boolean enabled = Boolean.TRUE.equals(user.getEnabled());
+        LocalDate date = user.getCreatedAt().toLocalDate();
+        afterCommit(() -> apply(1, enabled ? 1 : 0, date, 1));
+    }
+
+    /**
+     * 사용자 활성화 여부 변경을 기록합니다.
+     *
+     * @param enabled 변경된 활성화 여부
+     */
+    public void recordEnabledChanged(boolean enabled) {
+        afterCommit(() -> apply(0, enabled ? 1 : -1, null, 0));
+    }
+
+    /**
+     * 사용자 삭제를 기록합니다.
+     *
+     * @param user 삭제된 사용자
+     */
+    public void recordDeleted(User user) {
+        boolean enabled = Boolean.TRUE.equals(user.getEnabled());
+        LocalDate date = user.getCreatedAt().toLocalDate();
+        afterCommit(() -> apply(-1, enabled ? -1 : 0, date, -1));
+    }
+
+    /**
+     * 아직 저장하지 않은 증분을 요약 테이블에 더합니다.
+     *
+     * <p>저장은 {@link #statisticsTransaction}의 독립 트랜잭션에서 실행되며, 롤백되면 증분을 되돌려 다음 주기에 다시 시도합니다.
+     * 저장이 커밋되면 요약 테이블을 다시 읽어 다른 인스턴스가 저장한 증분까지 메모리 값에 반영합니다.
+     * {@link #rebuild()}와 동시에 실행되지 않으므로 재계산 도중 꺼낸 증분이 덮어써진 테이블에만 더해지는 일은 없습니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${user.statistics.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        statisticsTransaction.executeWithoutResult(status -> writePending());
+        // 저장할 증분이 없었더라도 다른 인스턴스가 저장한 값을 받아 오기 위해 매 주기 다시 읽는다.
+        snapshotTransaction.executeWithoutResult(status -> load());
+    }
+
+    /**
+     * 애플리케이션 종료 시 마지막 주기 이후의 증분을 요약 테이블에 저장합니다.
+     *
+     * <p>저장하지 않고 종료하면 그 증분은 다음 {@link #rebuild()}까지 요약 테이블에 반영되지 않습니다.</p>
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 저장 대기 증분을 꺼내 요약 테이블에 더합니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    private void writePending() {
+        long total = pending.total.sumThenReset();
+        long enabled = pending.enabled.sumThenReset();
+        List<DailyRegistration> daily = new ArrayList<>();
+        pending.daily.forEach((date, count) -> {
+            long delta = count.sumThenReset();
+            if (delta != 0) {
+                daily.add(new DailyRegistration(date, delta));
+            }
+        });
+
+        if (total == 0 && enabled == 0 && daily.isEmpty()) {
+            return;
+        }
+
+        // 트랜잭션이 롤백되면 꺼낸 증분을 되돌려 다음 주기에 다시 반영한다.
+        // 그 사이 재계산이 있었다면 증분은 이미 재계산 값에 포함되어 있으므로 되돌리지 않는다.
+        long generation = pendingGeneration;
+        Runnable restore = () -> {
+            Lock lock = swapLock.readLock();
+            lock.lock();
+            try {
+                if (pendingGeneration != generation) {
+                    return;
+                }
+                pending.add(total, enabled, null, 0);
+                for (DailyRegistration delta : daily) {
+                    pending.add(0, 0, delta.getRegistrationDate(), delta.getUserCount());
+                }
+            } finally {
+                lock.unlock();
+            }
+        };
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    restore.run();
+                }
+            }
+        });
+
+        if (statisticsRepository.addDeltas(UserStatistics.SUMMARY_ID, total, enabled, LocalDateTime.now()) == 0) {
+            statisticsRepository.save(new UserStatistics(total, enabled));
+        }
+        for (DailyRegistration delta : daily) {
+            if (dailyRegistrationRepository.addDelta(delta.getRegistrationDate(), delta.getUserCount()) == 0) {
+                dailyRegistrationRepository.save(delta);
+            }
+        }
+    }
+
+    /**
+     * {@code users} 테이블에서 모든 통계를 다시 계산하여 요약 테이블과 메모리 값을 교체합니다.
+     *
+     * <p>집계와 요약 테이블 교체는 호출 경로와 관계없이 하나의 {@code REPEATABLE_READ} 독립 트랜잭션에서 수행됩니다.
+     * 따라서 세 집계 쿼리가 같은 스냅샷을 보며, 도중에 실패하거나 다른 트랜잭션이 조회해도 비어 있는 일별 테이블이 보이지 않습니다.</p>
+     *
+     * <p>집계를 시작하기 전에 저장 대기 증분을 비우고, 집계 도중 기록된 증분은 계산 결과에 다시 더한 뒤 메모리 값을 교체합니다.
+     * 첫 집계 쿼리로 스냅샷이 정해질 때까지는 증분을 기록한 트랜잭션의 커밋을 잠시 대기시키므로,
+     * 모든 변경은 스냅샷과 이후 증분 중 정확히 한쪽에만 포함됩니다. 이 대기 때문에 사용량이 적은 시간에 실행하세요.</p>
+     */
+    @Scheduled(cron = "${user.statistics.reconcile-cron:0 30 3 * * *}")
+    public synchronized void rebuild() {
+        snapshotTransaction.executeWithoutResult(status -> recount());
+    }
+
+    /**
+     * {@code users} 테이블에서 다시 계산한 값으로 요약 테이블과 메모리 값을 교체합니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    private void recount() {
+        // 쓰기 잠금 동안에는 증분을 기록한 트랜잭션이 커밋하지 못하므로, 잠금 전에 커밋된 변경은 모두 스냅샷에 포함되고
+        // 잠금 후에 커밋된 변경은 스냅샷에 보이지 않은 채 pending에만 쌓였다가 교체 시 더해진다.
+        long total;
+        Lock lock = swapLock.writeLock();
+        lock.lock();
+        try {
+            pending.reset();
+            pendingGeneration++;
+            // REPEATABLE_READ 트랜잭션의 스냅샷은 첫 쿼리에서 정해진다.
+            total = userRepository.count();
+        } finally {
+            lock.unlock();
+        }
+
+        long enabled = userRepository.countByEnabledTrue();
+        List<DailyRegistration> daily = new ArrayList<>();
+        for (Object[] row : userRepository.countByRegistrationDate()) {
+            daily.add(new DailyRegistration((LocalDate) row[0], ((Number) row[1]).longValue()));
+        }
+
+        statisticsRepository.save(new UserStatistics(total, enabled));
+        dailyRegistrationRepository.deleteAllInBatch();
+        dailyRegistrationRepository.saveAll(daily);
+
+        Counters rebuilt = new Counters();
+        rebuilt.add(total, enabled, null, 0);
+        for (DailyRegistration registration : daily) {
+            rebuilt.add(0, 0, registration.getRegistrationDate(), registration.getUserCount());
+        }
+        publish(rebuilt);
+    }
+
+    /**
+     * 조회용 카운터를 반환합니다. 처음 호출될 때 요약 테이블에서 값을 읽어 오며,
+     * 요약 테이블이 비어 있으면 재계산하여 초기화합니다. 두 경우 모두 {@link #snapshotTransaction} 안에서 실행됩니다.
+     *
+     * @return 조회용 카운터
+     */
+    private Counters counters() {
+        Counters counters = live;
+        if (counters != null) {
+            return counters;
+        }
+
+        synchronized (this) {
+            if (live == null) {
+                snapshotTransaction.executeWithoutResult(status -> load());
+            }
+            return live;
+        }
+    }
+
+    /**
+     * 요약 테이블에서 메모리 값을 읽어 옵니다. 요약 행이 없으면 다시 계산합니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    private void load() {
+        UserStatistics summary = statisticsRepository.findById(UserStatistics.SUMMARY_ID).orElse(null);
+        if (summary == null) {
+            recount();
+            return;
+        }
+
+        Counters loaded = new Counters();
+        loaded.add(summary.getTotalUsers(), summary.getEnabledUsers(), null, 0);
+        for (DailyRegistration registration : dailyRegistrationRepository.findAll()) {
+            loaded.add(0, 0, registration.getRegistrationDate(), registration.getUserCount());
+        }
+        publish(loaded);
+    }
+
+    /**
+     * 요약 테이블 기준 값에 아직 저장되지 않은 증분을 더해 조회용 카운터로 교체합니다.
+     *
+     * <p>쓰기 잠금 안에서 더하고 교체하므로 그 사이에 반영되는 증분은 없습니다.</p>
+     *
+     * @param base 요약 테이블 기준 값
+     */
+    private void publish(Counters base) {
+        Lock lock = swapLock.writeLock();
+        lock.lock();
+        try {
+            base.addAll(pending);
+            live = base;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 증분을 메모리 값과 저장 대기 증분에 함께 반영합니다.
+     *
+     * @param totalDelta 전체 사용자 수 증분
+     * @param enabledDelta 활성 사용자 수 증분
+     * @param date 가입일 (가입일별 증분이 없으면 null)
+     * @param dailyDelta 가입일별 사용자 수 증분
+     */
+    private void apply(long totalDelta, long enabledDelta, LocalDate date, long dailyDelta) {
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            Counters counters = live;
+            if (counters != null) {
+                counters.add(totalDelta, enabledDelta, date, dailyDelta);
+            }
+            pending.add(totalDelta, enabledDelta, date, dailyDelta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 후에, 그렇지 않으면 즉시 실행합니다.
+     *
+     * <p>커밋부터 작업 실행까지 {@link #swapLock}의 읽기 잠금을 유지하므로, 재계산이 스냅샷을 정하는 동안에는 커밋이 대기하고
+     * 커밋된 변경의 증분이 아직 반영되지 않은 상태로 스냅샷이 정해지는 일이 없습니다.</p>
+     *
+     * @param action 실행할 작업
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private Lock commitLock;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitLock = swapLock.readLock();
+                commitLock.lock();
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (commitLock != null) {
+                    commitLock.unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * 스트라이프 카운터 묶음
+     */
+    private static final class Counters {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder enabled = new LongAdder();
+        private final Map<LocalDate, LongAdder> daily = new ConcurrentHashMap<>();
+
+        /**
+         * 각 카운터에 증분을 더합니다.
+         */
+        void add(long totalDelta, long enabledDelta, LocalDate date, long dailyDelta) {
+            if (totalDelta != 0) {
+                total.add(totalDelta);
+            }
+            if (enabledDelta != 0) {
+                enabled.add(enabledDelta);
+            }
+            if (date != null && dailyDelta != 0) {
+                daily.computeIfAbsent(date, d -> new LongAdder()).add(dailyDelta);
+            }
+        }
+
+        /**
+         * 다른 카운터 묶음의 현재 값을 더합니다.
+         */
+        void addAll(Counters other) {
+            add(other.total.sum(), other.enabled.sum(), null, 0);
+            other.daily.forEach((date, count) -> add(0, 0, date, count.sum()));
+        }
+
+        /**
+         * 모든 카운터를 0으로 되돌립니다.
+         */
+        void reset() {
+            total.reset();
+            enabled.reset();
+            daily.clear();
+        }
+    }
+}
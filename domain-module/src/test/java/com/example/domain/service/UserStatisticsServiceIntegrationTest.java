@@ -0,0 +1,268 @@
+package com.example.domain.service;
+
+import com.example.domain.entity.DailyRegistration;
+import com.example.domain.entity.User;
+import com.example.domain.entity.UserStatistics;
+import com.example.domain.repository.DailyRegistrationRepository;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.repository.UserStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+
+// 증분은 커밋 후에만 반영되므로 테스트를 @Transactional로 감싸지 않고 TransactionTemplate으로 커밋과 롤백을 직접 제어한다.
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("UserStatisticsService 통합 테스트")
+class UserStatisticsServiceIntegrationTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserStatisticsService userStatisticsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private UserStatisticsRepository statisticsRepository;
+
+    @Autowired
+    private DailyRegistrationRepository dailyRegistrationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = {"com.example.util", "com.example.encrypt", "com.example.domain"})
+    static class TestApplication {
+    }
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        userRepository.deleteAllInBatch();
+        dailyRegistrationRepository.deleteAllInBatch();
+        statisticsRepository.deleteAllInBatch();
+        userStatisticsService.rebuild();
+    }
+
+    @Test
+    @DisplayName("사용자 등록은 커밋된 뒤에 통계에 반영된다")
+    void registerUser_Committed_CountsAfterCommit() {
+        // when
+        long[] duringTransaction = new long[1];
+        User registered = transactionTemplate.execute(status -> {
+            User user = userService.registerUser(newUser(true));
+            duringTransaction[0] = userStatisticsService.getTotalUsers();
+            return user;
+        });
+
+        // then
+        assertEquals(0, duringTransaction[0]);
+        assertEquals(1, userStatisticsService.getTotalUsers());
+        assertEquals(1, userStatisticsService.getEnabledUsers());
+        assertEquals(0, userStatisticsService.getDisabledUsers());
+        assertEquals(1, userStatisticsService.getRegistrations(registered.getCreatedAt().toLocalDate()));
+    }
+
+    @Test
+    @DisplayName("활성화 여부 변경은 커밋된 뒤에 통계에 반영된다")
+    void updateUser_EnabledChanged_CountsAfterCommit() {
+        // given
+        User registered = userService.registerUser(newUser(true));
+        User disable = new User();
+        disable.setEnabled(false);
+
+        // when
+        long duringTransaction = transactionTemplate.execute(status -> {
+            userService.updateUser(registered.getId(), disable);
+            return userStatisticsService.getEnabledUsers();
+        });
+
+        // then
+        assertEquals(1, duringTransaction);
+        assertEquals(1, userStatisticsService.getTotalUsers());
+        assertEquals(0, userStatisticsService.getEnabledUsers());
+        assertEquals(1, userStatisticsService.getDisabledUsers());
+    }
+
+    @Test
+    @DisplayName("사용자 삭제는 커밋된 뒤에 통계에 반영된다")
+    void deleteUser_Committed_CountsAfterCommit() {
+        // given
+        User registered = userService.registerUser(newUser(true));
+        LocalDate date = registered.getCreatedAt().toLocalDate();
+
+        // when
+        long duringTransaction = transactionTemplate.execute(status -> {
+            userService.deleteUser(registered.getId());
+            return userStatisticsService.getTotalUsers();
+        });
+
+        // then
+        assertEquals(1, duringTransaction);
+        assertEquals(0, userStatisticsService.getTotalUsers());
+        assertEquals(0, userStatisticsService.getEnabledUsers());
+        assertEquals(0, userStatisticsService.getRegistrations(date));
+    }
+
+    @Test
+    @DisplayName("롤백된 등록, 변경, 삭제는 통계에 반영되지 않는다")
+    void changes_RolledBack_NotCounted() {
+        // given
+        User existing = userService.registerUser(newUser(true));
+        User disable = new User();
+        disable.setEnabled(false);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.registerUser(newUser(false));
+            userService.updateUser(existing.getId(), disable);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.deleteUser(existing.getId());
+            status.setRollbackOnly();
+        });
+        assertThrows(IllegalArgumentException.class, () -> userService.registerUser(
+            new User(existing.getUsername(), "duplicate@example.com", "password123")));
+
+        // then
+        assertEquals(1, userRepository.count());
+        assertEquals(1, userStatisticsService.getTotalUsers());
+        assertEquals(1, userStatisticsService.getEnabledUsers());
+        assertEquals(1, userStatisticsService.getRegistrations(existing.getCreatedAt().toLocalDate()));
+    }
+
+    @Test
+    @DisplayName("flush는 저장 대기 증분을 요약 테이블에 더한다")
+    void flush_PendingDeltas_AddsToSummaryRows() {
+        // given
+        User first = userService.registerUser(newUser(true));
+        userService.registerUser(newUser(false));
+        LocalDate date = first.getCreatedAt().toLocalDate();
+
+        // when
+        userStatisticsService.flush();
+        userService.registerUser(newUser(true));
+        userStatisticsService.flush();
+
+        // then
+        UserStatistics summary = statisticsRepository.findById(UserStatistics.SUMMARY_ID).orElseThrow();
+        assertEquals(3, summary.getTotalUsers());
+        assertEquals(2, summary.getEnabledUsers());
+        assertEquals(3, dailyRegistrationRepository.findById(date).map(DailyRegistration::getUserCount).orElse(0L));
+        assertEquals(3, userStatisticsService.getTotalUsers());
+    }
+
+    @Test
+    @DisplayName("flush 트랜잭션이 롤백되면 증분을 되돌려 다음 flush에서 한 번만 반영한다")
+    void flush_TransactionRolledBack_RestoresDeltas() {
+        // given
+        User registered = userService.registerUser(newUser(true));
+        userService.registerUser(newUser(true));
+        LocalDate date = registered.getCreatedAt().toLocalDate();
+        doThrow(new IllegalStateException("Simulated failure"))
+            .when(statisticsRepository).addDeltas(any(), anyLong(), anyLong(), any());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> userStatisticsService.flush());
+        UserStatistics afterFailure = statisticsRepository.findById(UserStatistics.SUMMARY_ID).orElseThrow();
+        boolean dailyAfterFailure = dailyRegistrationRepository.existsById(date);
+        doCallRealMethod().when(statisticsRepository).addDeltas(any(), anyLong(), anyLong(), any());
+        userStatisticsService.flush();
+
+        // then
+        assertEquals(0, afterFailure.getTotalUsers());
+        assertFalse(dailyAfterFailure);
+        assertEquals(2, userStatisticsService.getTotalUsers());
+        UserStatistics summary = statisticsRepository.findById(UserStatistics.SUMMARY_ID).orElseThrow();
+        assertEquals(2, summary.getTotalUsers());
+        assertEquals(2, summary.getEnabledUsers());
+        assertEquals(2, dailyRegistrationRepository.findById(date).map(DailyRegistration::getUserCount).orElse(0L));
+    }
+
+    @Test
+    @DisplayName("등록이 동시에 진행되는 중에 재계산해도 최종 값은 새로 집계한 값과 같다")
+    void rebuild_ConcurrentRegistrations_MatchesFreshCount() throws Exception {
+        // given
+        int threads = 4;
+        int usersPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> registrations = new ArrayList<>();
+
+        // when
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                registrations.add(executor.submit(() -> {
+                    for (int i = 0; i < usersPerThread; i++) {
+                        userService.registerUser(newUser((i + offset) % 3 != 0));
+                    }
+                }));
+            }
+            while (registrations.stream().anyMatch(registration -> !registration.isDone())) {
+                userStatisticsService.rebuild();
+                UserStatistics summary = statisticsRepository.findById(UserStatistics.SUMMARY_ID).orElseThrow();
+                long dailySum = dailyRegistrationRepository.findAll().stream()
+                    .mapToLong(DailyRegistration::getUserCount).sum();
+                assertEquals(summary.getTotalUsers(), dailySum);
+            }
+            for (Future<?> registration : registrations) {
+                registration.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+
+        // then
+        assertEquals(threads * usersPerThread, userRepository.count());
+        assertEquals(userRepository.count(), userStatisticsService.getTotalUsers());
+        assertEquals(userRepository.countByEnabledTrue(), userStatisticsService.getEnabledUsers());
+        for (Object[] row : userRepository.countByRegistrationDate()) {
+            assertEquals(((Number) row[1]).longValue(), userStatisticsService.getRegistrations((LocalDate) row[0]));
+        }
+    }
+
+    private User newUser(boolean enabled) {
+        int n = SEQUENCE.incrementAndGet();
+        User user = new User("stats-user-" + n, "stats-user-" + n + "@example.com", "password123");
+        user.setEnabled(enabled);
+        return user;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.encrypt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 압축 후 암호화 모드의 저장 공간/처리량 비교 벤치마크
+ *
+ * <p>반복적인 JSON 평문을 운용 모드와 압축 방식별로 암호화/복호화하는 처리량을 측정하고,
+ * 준비 단계에서 원본 대비 Base64 암호문과 바이너리 암호문의 크기를 출력합니다.</p>
+ *
+ * <pre>
+ * ./gradlew :encrypt-module:jmh
+ * </pre>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"GCM", "CTR_HMAC"})
+    private CipherMode mode;
+
+    @Param({"NONE", "DEFLATE", "LZ4"})
+    private Compression compression;
+
+    /**
+     * JSON 레코드 반복 횟수 (레코드당 약 120바이트)
+     */
+    @Param({"4", "64", "1024"})
+    private int records;
+
+    private AesEncryptionService service;
+    private String secretKey;
+    private String json;
+    private String encrypted;
+    private byte[] encryptedBytes;
+
+    @Setup
+    public void setUp() {
+        service = new AesEncryptionService(mode, compression, AesEncryptionService.DEFAULT_COMPRESSION_THRESHOLD);
+        secretKey = service.generateSecretKey();
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i)
+                .append(",\"username\":\"user").append(i)
+                .append("\",\"email\":\"user").append(i).append("@example.com\"")
+                .append(",\"enabled\":true,\"roles\":[\"USER\",\"REPORT_VIEWER\"]}");
+        }
+        json = sb.append(']').toString();
+
+        encrypted = service.encrypt(json, secretKey);
+        encryptedBytes = service.encryptToBytes(json, secretKey);
+
+        int raw = json.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n[storage] mode=%s compression=%s raw=%d base64=%d (%.1f%%) binary=%d (%.1f%%)%n",
+            mode, compression, raw,
+            encrypted.length(), 100.0 * encrypted.length() / raw,
+            encryptedBytes.length, 100.0 * encryptedBytes.length / raw);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return service.encrypt(json, secretKey);
+    }
+
+    @Benchmark
+    public byte[] encryptToBytes() {
+        return service.encryptToBytes(json, secretKey);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return service.decrypt(encrypted, secretKey);
+    }
+
+    @Benchmark
+    public String decryptBytes() {
+        return service.decryptBytes(encryptedBytes, secretKey);
+    }
+}
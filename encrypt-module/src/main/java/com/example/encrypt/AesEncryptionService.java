@@ -1,12 +1,19 @@
 package com.example.encrypt;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 
@@ -23,15 +30,102 @@ import java.util.Base64;
  * String decrypted = service.decrypt(encrypted, secretKey);
  * }</pre>
  * 
+ * <p><strong>암호문 형식:</strong> 새 암호문은 {@link CiphertextHeader 버전 헤더}와 함께
+ * {@link CipherMode#GCM AES-GCM}(기본값) 또는 {@link CipherMode#CTR_HMAC AES-CTR + HMAC-SHA256}으로 암호화됩니다.
+ * nonce는 인스턴스마다 하나인 {@link NonceGenerator}가 잠금 없이 생성합니다.</p>
+ * 
+ * <p><strong>레거시 암호문:</strong> {@link #decrypt(String, String)}와 {@link #decryptBytes(byte[], String)}는
+ * 현재 형식(버전 2)만 받으며, 인증에 실패하면 다른 형식으로 다시 시도하지 않고 예외를 던집니다.
+ * 인증되지 않는 레거시 AES/ECB 암호문은 명시적인 전환용 경로인
+ * {@link #decryptAllowingLegacy(String, String)}, {@link #reencrypt(String, String)},
+ * {@link CiphertextMigrationJob}으로만 복호화됩니다.</p>
+ * 
+ * <p><strong>압축 모드:</strong> {@link #AesEncryptionService(CipherMode, Compression, int)}로 생성하면
+ * 임계값 이상 크기의 평문을 암호화 전에 압축하고, 선택한 방식을 {@link CiphertextHeader 버전 헤더}에 기록합니다.
+ * 압축 결과가 원본보다 작지 않거나 평문이 {@link Compression#MAX_DECOMPRESSED_SIZE}보다 크면 압축하지 않은 것으로 기록합니다.
+ * 운용 모드와 압축 방식은 헤더를 보고 자동으로 판별하므로 어떤 설정의 인스턴스로도 현재 형식 암호문을 복호화할 수 있습니다.
+ * 헤더가 없는 기존 암호문은 {@link #decrypt(String, String)}로 복호화되지 않으므로 {@link #decryptAllowingLegacy(String, String)}를 사용하십시오.</p>
+ * 
+ * <p><strong>주의:</strong> 압축 후 암호화하면 암호문 길이가 평문 내용에 따라 달라집니다.
+ * 하나의 값에 비밀 데이터와 공격자가 영향을 줄 수 있는 데이터(사용자 입력, 요청 파라미터 등)가 함께 들어 있으면,
+ * 공격자는 입력을 바꿔 가며 암호문 길이를 관찰해 비밀 데이터를 추측할 수 있습니다(CRIME/BREACH 유형 공격).
+ * 이런 값에는 압축을 사용하지 말고 {@link Compression#NONE}으로 암호화하십시오.</p>
+ * 
+ * <pre>{@code
+ * AesEncryptionService service = new AesEncryptionService(CipherMode.GCM, Compression.LZ4, 512);
+ * byte[] compact = service.encryptToBytes(largeJson, secretKey);   // Base64 없이 저장
+ * String json = service.decryptBytes(compact, secretKey);
+ * }</pre>
+ * 
+ * <p>JCA 프로바이더 조회 비용이 기동 시간에 포함되지 않도록 지연 초기화되는 빈으로 등록됩니다.</p>
+ * 
  * @author Spring Multi Module Team
  * @version 1.0.0
  * @since 1.0.0
+ * @see CipherMode
+ * @see Compression
  */
 @Component
+@Lazy
 public class AesEncryptionService {
     
     private static final String ALGORITHM = "AES";
+    private static final String LEGACY_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
     private static final int KEY_SIZE = 256;
+    private static final byte[] ENCRYPTION_KEY_LABEL = "aes-ctr-encryption".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MAC_KEY_LABEL = "aes-ctr-hmac".getBytes(StandardCharsets.US_ASCII);
+    
+    /**
+     * 압축 모드의 기본 임계값 (바이트)
+     */
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 256;
+    
+    private final CipherMode mode;
+    private final Compression compression;
+    private final int compressionThreshold;
+    private final NonceGenerator nonceGenerator = new NonceGenerator();
+    
+    /**
+     * AES-GCM을 사용하고 압축하지 않는 서비스를 생성합니다.
+     */
+    public AesEncryptionService() {
+        this(CipherMode.GCM, Compression.NONE, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+    
+    /**
+     * AES-GCM과 암호화 전 압축을 사용하는 서비스를 생성합니다.
+     * 
+     * @param compression 압축 방식
+     * @param compressionThreshold 압축을 시도할 최소 평문 크기 (바이트). 이보다 작으면 압축하지 않습니다.
+     * @throws IllegalArgumentException compression이 null이거나 compressionThreshold가 음수인 경우
+     */
+    public AesEncryptionService(Compression compression, int compressionThreshold) {
+        this(CipherMode.GCM, compression, compressionThreshold);
+    }
+    
+    /**
+     * 운용 모드와 압축 방식을 지정하여 서비스를 생성합니다.
+     * 
+     * @param mode 새 암호문에 사용할 운용 모드
+     * @param compression 압축 방식
+     * @param compressionThreshold 압축을 시도할 최소 평문 크기 (바이트). 이보다 작으면 압축하지 않습니다.
+     * @throws IllegalArgumentException mode나 compression이 null이거나 compressionThreshold가 음수인 경우
+     */
+    public AesEncryptionService(CipherMode mode, Compression compression, int compressionThreshold) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Cipher mode cannot be null");
+        }
+        if (compression == null) {
+            throw new IllegalArgumentException("Compression cannot be null");
+        }
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("Compression threshold cannot be negative: " + compressionThreshold);
+        }
+        this.mode = mode;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+    }
     
     /**
      * AES 비밀키를 생성합니다.
@@ -41,7 +135,7 @@ public class AesEncryptionService {
      */
     public String generateSecretKey() {
         try {
-            KeyGenerator keyGenerator = KeyGenerator.getInstance(ALGORITHM);
+            KeyGenerator keyGenerator = CryptoProviders.keyGenerator(ALGORITHM);
             keyGenerator.init(KEY_SIZE);
             SecretKey secretKey = keyGenerator.generateKey();
             return Base64.getEncoder().encodeToString(secretKey.getEncoded());
@@ -53,6 +147,8 @@ public class AesEncryptionService {
     /**
      * 주어진 텍스트를 AES 알고리즘으로 암호화합니다.
      * 
+     * <p>버전 헤더가 포함된 암호문을 Base64로 인코딩하여 반환합니다.</p>
+     * 
      * @param plainText 암호화할 평문 텍스트
      * @param secretKey Base64로 인코딩된 비밀키
      * @return Base64로 인코딩된 암호화된 텍스트
@@ -60,59 +156,360 @@ public class AesEncryptionService {
      * @throws RuntimeException 암호화 중 오류가 발생한 경우
      */
     public String encrypt(String plainText, String secretKey) {
-        if (plainText == null || plainText.isEmpty()) {
-            throw new IllegalArgumentException("Plain text cannot be null or empty");
-        }
-        if (secretKey == null || secretKey.isEmpty()) {
-            throw new IllegalArgumentException("Secret key cannot be null or empty");
-        }
+        validatePlainText(plainText);
+        validateSecretKey(secretKey);
         
         try {
-            SecretKeySpec keySpec = new SecretKeySpec(
-                Base64.getDecoder().decode(secretKey), 
-                ALGORITHM
-            );
-            
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-            
-            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = seal(plainText.getBytes(StandardCharsets.UTF_8), toKeySpec(secretKey));
             return Base64.getEncoder().encodeToString(encrypted);
         } catch (Exception e) {
             throw new RuntimeException("Encryption failed", e);
         }
     }
     
+    /**
+     * 주어진 텍스트를 암호화하여 Base64 인코딩 없이 바이너리로 반환합니다.
+     * 
+     * <p>결과는 항상 버전 헤더를 포함하며, Base64 문자열보다 약 25% 작습니다.</p>
+     * 
+     * @param plainText 암호화할 평문 텍스트
+     * @param secretKey Base64로 인코딩된 비밀키
+     * @return 헤더가 포함된 암호문 바이트 배열
+     * @throws IllegalArgumentException plainText나 secretKey가 null이거나 비어있는 경우
+     * @throws RuntimeException 암호화 중 오류가 발생한 경우
+     * @see #decryptBytes(byte[], String)
+     */
+    public byte[] encryptToBytes(String plainText, String secretKey) {
+        validatePlainText(plainText);
+        validateSecretKey(secretKey);
+        
+        try {
+            return seal(plainText.getBytes(StandardCharsets.UTF_8), toKeySpec(secretKey));
+        } catch (Exception e) {
+            throw new RuntimeException("Encryption failed", e);
+        }
+    }
+    
     /**
      * 암호화된 텍스트를 복호화합니다.
      * 
+     * <p>운용 모드와 압축 방식은 암호문 헤더에서 자동으로 판별합니다. 현재 형식(버전 2)만 복호화하며,
+     * 레거시 암호문이나 인증에 실패한 암호문은 예외를 던집니다.</p>
+     * 
      * @param encryptedText Base64로 인코딩된 암호화된 텍스트
      * @param secretKey Base64로 인코딩된 비밀키
      * @return 복호화된 평문 텍스트
      * @throws IllegalArgumentException encryptedText나 secretKey가 null이거나 비어있는 경우
-     * @throws RuntimeException 복호화 중 오류가 발생한 경우
+     * @throws RuntimeException 형식이 다르거나, 인증 또는 복호화에 실패한 경우
+     * @see #decryptAllowingLegacy(String, String)
      */
     public String decrypt(String encryptedText, String secretKey) {
         if (encryptedText == null || encryptedText.isEmpty()) {
             throw new IllegalArgumentException("Encrypted text cannot be null or empty");
         }
-        if (secretKey == null || secretKey.isEmpty()) {
-            throw new IllegalArgumentException("Secret key cannot be null or empty");
+        validateSecretKey(secretKey);
+        
+        try {
+            byte[] decrypted = open(Base64.getDecoder().decode(encryptedText), toKeySpec(secretKey));
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new RuntimeException("Decryption failed", e);
+        }
+    }
+    
+    /**
+     * {@link #encryptToBytes(String, String)}로 생성한 바이너리 암호문을 복호화합니다.
+     * 
+     * @param encrypted 암호문 바이트 배열
+     * @param secretKey Base64로 인코딩된 비밀키
+     * @return 복호화된 평문 텍스트
+     * @throws IllegalArgumentException encrypted가 null이거나 비어있거나, secretKey가 null이거나 비어있는 경우
+     * @throws RuntimeException 형식이 다르거나, 인증 또는 복호화에 실패한 경우
+     */
+    public String decryptBytes(byte[] encrypted, String secretKey) {
+        if (encrypted == null || encrypted.length == 0) {
+            throw new IllegalArgumentException("Encrypted bytes cannot be null or empty");
         }
+        validateSecretKey(secretKey);
         
         try {
-            SecretKeySpec keySpec = new SecretKeySpec(
-                Base64.getDecoder().decode(secretKey), 
-                ALGORITHM
-            );
-            
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-            
-            byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
+            return new String(open(encrypted, toKeySpec(secretKey)), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new RuntimeException("Decryption failed", e);
+        }
+    }
+    
+    /**
+     * 레거시 형식까지 허용하여 암호문을 복호화합니다.
+     * 
+     * <p>기존 데이터를 마이그레이션하는 동안에만 사용하는 전환용 메서드입니다. 현재 형식(버전 2) 암호문은
+     * {@link #decrypt(String, String)}와 똑같이 인증하며, 인증에 실패하면 레거시 형식으로 다시 시도하지 않습니다.
+     * 헤더가 없는 AES/ECB 암호문은 무결성 검증 없이 복호화되므로, 변조된 값이 오류 없이
+     * 잘못된 평문으로 반환될 수 있습니다.</p>
+     * 
+     * @param encryptedText Base64로 인코딩된 암호문 (모든 지원 형식)
+     * @param secretKey Base64로 인코딩된 비밀키
+     * @return 복호화된 평문 텍스트
+     * @throws IllegalArgumentException encryptedText나 secretKey가 null이거나 비어있는 경우
+     * @throws RuntimeException 복호화 중 오류가 발생한 경우
+     */
+    public String decryptAllowingLegacy(String encryptedText, String secretKey) {
+        if (encryptedText == null || encryptedText.isEmpty()) {
+            throw new IllegalArgumentException("Encrypted text cannot be null or empty");
+        }
+        validateSecretKey(secretKey);
+        
+        try {
+            byte[] decrypted = openAnyFormat(Base64.getDecoder().decode(encryptedText), toKeySpec(secretKey));
             return new String(decrypted, StandardCharsets.UTF_8);
         } catch (Exception e) {
             throw new RuntimeException("Decryption failed", e);
         }
     }
+    
+    /**
+     * 암호문이 현재 형식(버전 2)인지 확인합니다.
+     * 
+     * <p>false이면 레거시 AES/ECB 암호문이므로 {@link #reencrypt(String, String)} 대상입니다.</p>
+     * 
+     * @param encryptedText Base64로 인코딩된 암호문
+     * @return 현재 형식이면 true
+     * @throws IllegalArgumentException encryptedText가 null이거나 비어있거나 Base64 형식이 아닌 경우
+     */
+    public boolean isCurrentFormat(String encryptedText) {
+        if (encryptedText == null || encryptedText.isEmpty()) {
+            throw new IllegalArgumentException("Encrypted text cannot be null or empty");
+        }
+        
+        byte[] data = Base64.getDecoder().decode(encryptedText);
+        return CiphertextHeader.isPresent(data) && CiphertextHeader.version(data) == CiphertextHeader.CURRENT_VERSION;
+    }
+    
+    /**
+     * 암호문을 복호화한 뒤 현재 설정(운용 모드, 압축)으로 다시 암호화합니다.
+     * 
+     * <p>복호화는 {@link #decryptAllowingLegacy(String, String)}와 같은 규칙을 따릅니다.</p>
+     * 
+     * @param encryptedText Base64로 인코딩된 암호문 (모든 지원 형식)
+     * @param secretKey Base64로 인코딩된 비밀키
+     * @return 현재 형식의 Base64 암호문
+     * @throws IllegalArgumentException encryptedText나 secretKey가 null이거나 비어있는 경우
+     * @throws RuntimeException 복호화 또는 암호화 중 오류가 발생한 경우
+     */
+    public String reencrypt(String encryptedText, String secretKey) {
+        if (encryptedText == null || encryptedText.isEmpty()) {
+            throw new IllegalArgumentException("Encrypted text cannot be null or empty");
+        }
+        validateSecretKey(secretKey);
+        
+        try {
+            SecretKeySpec keySpec = toKeySpec(secretKey);
+            byte[] plain = openAnyFormat(Base64.getDecoder().decode(encryptedText), keySpec);
+            return Base64.getEncoder().encodeToString(seal(plain, keySpec));
+        } catch (Exception e) {
+            throw new RuntimeException("Re-encryption failed", e);
+        }
+    }
+    
+    /**
+     * 평문을 (필요 시 압축한 뒤) 현재 운용 모드로 암호화하고 버전 헤더를 붙입니다.
+     * 
+     * @param plain 평문 바이트 배열
+     * @param keySpec 비밀키
+     * @return 헤더가 포함된 암호문
+     * @throws GeneralSecurityException 암호화 중 오류가 발생한 경우
+     */
+    private byte[] seal(byte[] plain, SecretKeySpec keySpec) throws GeneralSecurityException {
+        Compression applied = Compression.NONE;
+        byte[] payload = plain;
+        
+        // 압축 해제 한도보다 큰 값은 압축하면 다시 복호화할 수 없으므로 그대로 암호화한다.
+        if (compression != Compression.NONE && plain.length >= compressionThreshold
+                && plain.length <= Compression.MAX_DECOMPRESSED_SIZE) {
+            byte[] compressed = compression.compress(plain);
+            if (compressed.length < plain.length) {
+                applied = compression;
+                payload = compressed;
+            }
+        }
+        
+        int ivOffset = CiphertextHeader.LENGTH;
+        int bodyOffset = ivOffset + mode.ivLength();
+        byte[] sealed = CiphertextHeader.allocate(mode, applied, mode.ivLength() + payload.length + mode.tagLength());
+        nonceGenerator.next(sealed, ivOffset);
+        
+        Cipher cipher = CryptoProviders.cipher(mode.transformation());
+        if (mode == CipherMode.GCM) {
+            cipher.init(Cipher.ENCRYPT_MODE, keySpec,
+                new GCMParameterSpec(mode.tagLength() * 8, sealed, ivOffset, mode.ivLength()));
+            cipher.updateAAD(sealed, 0, CiphertextHeader.LENGTH);
+            cipher.doFinal(payload, 0, payload.length, sealed, bodyOffset);
+        } else {
+            // IV의 마지막 4바이트(블록 카운터)는 0에서 시작한다.
+            cipher.init(Cipher.ENCRYPT_MODE, deriveKey(keySpec, ENCRYPTION_KEY_LABEL, ALGORITHM),
+                new IvParameterSpec(sealed, ivOffset, mode.ivLength()));
+            cipher.doFinal(payload, 0, payload.length, sealed, bodyOffset);
+            
+            Mac mac = hmac(keySpec);
+            mac.update(sealed, 0, bodyOffset + payload.length);
+            mac.doFinal(sealed, bodyOffset + payload.length);
+        }
+        return sealed;
+    }
+    
+    /**
+     * 현재 형식(버전 2) 암호문의 인증을 확인하고 복호화합니다.
+     * 
+     * @param data 헤더를 포함한 암호문
+     * @param keySpec 비밀키
+     * @return 평문 바이트 배열
+     * @throws GeneralSecurityException 현재 형식이 아니거나, 복호화 또는 인증에 실패한 경우
+     */
+    private byte[] open(byte[] data, SecretKeySpec keySpec) throws GeneralSecurityException {
+        if (!CiphertextHeader.isPresent(data) || CiphertextHeader.version(data) != CiphertextHeader.CURRENT_VERSION) {
+            throw new GeneralSecurityException("Unsupported ciphertext format; migrate legacy values with reencrypt");
+        }
+        return decompress(CiphertextHeader.compression(data), openAuthenticated(data, keySpec));
+    }
+    
+    /**
+     * 형식을 판별하여 레거시 형식까지 복호화합니다.
+     * 
+     * <p>버전 2 헤더가 있으면 {@link #open(byte[], SecretKeySpec)}만 사용하며, 인증에 실패해도 레거시 형식으로 다시 시도하지 않습니다.</p>
+     * 
+     * @param data 암호문 (헤더 포함 또는 레거시 형식)
+     * @param keySpec 비밀키
+     * @return 평문 바이트 배열
+     * @throws GeneralSecurityException 복호화 또는 인증에 실패한 경우
+     */
+    private byte[] openAnyFormat(byte[] data, SecretKeySpec keySpec) throws GeneralSecurityException {
+        if (!CiphertextHeader.isPresent(data)) {
+            return openLegacy(data, keySpec);
+        }
+        return open(data, keySpec);
+    }
+    
+    /**
+     * 버전 2 본문의 인증을 확인하고 복호화합니다.
+     * 
+     * @param data 버전 2 암호문
+     * @param keySpec 비밀키
+     * @return 압축 해제 전 페이로드
+     * @throws GeneralSecurityException 복호화 또는 인증에 실패한 경우
+     */
+    private byte[] openAuthenticated(byte[] data, SecretKeySpec keySpec) throws GeneralSecurityException {
+        CipherMode dataMode = CiphertextHeader.mode(data);
+        int ivOffset = CiphertextHeader.LENGTH;
+        int bodyOffset = ivOffset + dataMode.ivLength();
+        Cipher cipher = CryptoProviders.cipher(dataMode.transformation());
+        
+        if (dataMode == CipherMode.GCM) {
+            cipher.init(Cipher.DECRYPT_MODE, keySpec,
+                new GCMParameterSpec(dataMode.tagLength() * 8, data, ivOffset, dataMode.ivLength()));
+            cipher.updateAAD(data, 0, CiphertextHeader.LENGTH);
+            return cipher.doFinal(data, bodyOffset, data.length - bodyOffset);
+        }
+        
+        int macOffset = data.length - dataMode.tagLength();
+        Mac mac = hmac(keySpec);
+        mac.update(data, 0, macOffset);
+        byte[] expected = mac.doFinal();
+        byte[] actual = new byte[dataMode.tagLength()];
+        System.arraycopy(data, macOffset, actual, 0, actual.length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new AEADBadTagException("HMAC check failed");
+        }
+        
+        cipher.init(Cipher.DECRYPT_MODE, deriveKey(keySpec, ENCRYPTION_KEY_LABEL, ALGORITHM),
+            new IvParameterSpec(data, ivOffset, dataMode.ivLength()));
+        return cipher.doFinal(data, bodyOffset, macOffset - bodyOffset);
+    }
+    
+    /**
+     * 헤더가 없는 레거시 AES/ECB 암호문을 복호화합니다.
+     * 
+     * @param data 레거시 암호문
+     * @param keySpec 비밀키
+     * @return 평문 바이트 배열
+     * @throws GeneralSecurityException 복호화에 실패한 경우
+     */
+    private byte[] openLegacy(byte[] data, SecretKeySpec keySpec) throws GeneralSecurityException {
+        Cipher cipher = CryptoProviders.cipher(LEGACY_TRANSFORMATION);
+        cipher.init(Cipher.DECRYPT_MODE, keySpec);
+        return cipher.doFinal(data);
+    }
+    
+    /**
+     * 헤더에 기록된 방식으로 압축을 해제합니다.
+     * 
+     * @param applied 적용된 압축 방식
+     * @param payload 복호화된 페이로드
+     * @return 원본 평문
+     */
+    private byte[] decompress(Compression applied, byte[] payload) {
+        return applied == Compression.NONE ? payload : applied.decompress(payload, 0, payload.length);
+    }
+    
+    /**
+     * CTR_HMAC 모드의 MAC 키로 초기화된 HMAC을 생성합니다.
+     * 
+     * @param keySpec 비밀키
+     * @return 초기화된 Mac
+     * @throws GeneralSecurityException Mac 생성이나 초기화에 실패한 경우
+     */
+    private Mac hmac(SecretKeySpec keySpec) throws GeneralSecurityException {
+        Mac mac = CryptoProviders.mac(MAC_ALGORITHM);
+        mac.init(deriveKey(keySpec, MAC_KEY_LABEL, MAC_ALGORITHM));
+        return mac;
+    }
+    
+    /**
+     * 비밀키에서 용도별 하위 키를 유도합니다. ({@code HMAC-SHA256(key, label)})
+     * 
+     * @param keySpec 비밀키
+     * @param label 용도 구분 레이블
+     * @param algorithm 유도된 키의 알고리즘 이름
+     * @return 256비트 하위 키
+     * @throws GeneralSecurityException Mac 생성이나 초기화에 실패한 경우
+     */
+    private SecretKeySpec deriveKey(SecretKeySpec keySpec, byte[] label, String algorithm)
+            throws GeneralSecurityException {
+        Mac mac = CryptoProviders.mac(MAC_ALGORITHM);
+        mac.init(new SecretKeySpec(keySpec.getEncoded(), MAC_ALGORITHM));
+        return new SecretKeySpec(mac.doFinal(label), algorithm);
+    }
+    
+    /**
+     * Base64로 인코딩된 비밀키를 키 스펙으로 변환합니다.
+     * 
+     * @param secretKey Base64로 인코딩된 비밀키
+     * @return AES 키 스펙
+     */
+    private SecretKeySpec toKeySpec(String secretKey) {
+        return new SecretKeySpec(Base64.getDecoder().decode(secretKey), ALGORITHM);
+    }
+    
+    /**
+     * 평문이 null이거나 비어있는지 검증합니다.
+     * 
+     * @param plainText 검증할 평문
+     * @throws IllegalArgumentException plainText가 null이거나 비어있는 경우
+     */
+    private void validatePlainText(String plainText) {
+        if (plainText == null || plainText.isEmpty()) {
+            throw new IllegalArgumentException("Plain text cannot be null or empty");
+        }
+    }
+    
+    /**
+     * 비밀키가 null이거나 비어있는지 검증합니다.
+     * 
+     * @param secretKey 검증할 비밀키
+     * @throws IllegalArgumentException secretKey가 null이거나 비어있는 경우
+     */
+    private void validateSecretKey(String secretKey) {
+        if (secretKey == null || secretKey.isEmpty()) {
+            throw new IllegalArgumentException("Secret key cannot be null or empty");
+        }
+    }
 }
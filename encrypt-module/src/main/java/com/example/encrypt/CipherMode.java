@@ -0,0 +1,97 @@
+package com.example.encrypt;
+
+/**
+ * AES 운용 모드
+ *
+ * <p>{@link AesEncryptionService}가 새 암호문을 생성할 때 사용할 인증 암호화 방식을 지정합니다.
+ * 선택된 모드는 암호문 헤더에 기록되므로 복호화 시에는 자동으로 판별됩니다.</p>
+ *
+ * <pre>
+ * GCM      : header | nonce(12) | ciphertext | tag(16)
+ * CTR_HMAC : header | iv(16)    | ciphertext | HMAC-SHA256(32)
+ * </pre>
+ *
+ * <p>두 모드 모두 헤더를 인증 대상에 포함하므로 헤더(압축 방식 등)를 변조하면 복호화가 실패합니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see AesEncryptionService
+ */
+public enum CipherMode {
+
+    /**
+     * AES-GCM (기본값). JDK의 AES/GHASH 인트린직으로 가속됩니다.
+     */
+    GCM(0, "AES/GCM/NoPadding", 12, 16),
+
+    /**
+     * AES-CTR 암호화 후 HMAC-SHA256 인증 (Encrypt-then-MAC).
+     * 암호화 키와 MAC 키는 비밀키에서 각각 유도됩니다.
+     */
+    CTR_HMAC(1, "AES/CTR/NoPadding", 16, 32);
+
+    private final int id;
+    private final String transformation;
+    private final int ivLength;
+    private final int tagLength;
+
+    CipherMode(int id, String transformation, int ivLength, int tagLength) {
+        this.id = id;
+        this.transformation = transformation;
+        this.ivLength = ivLength;
+        this.tagLength = tagLength;
+    }
+
+    /**
+     * 헤더에 기록된 식별자로 모드를 찾습니다.
+     *
+     * @param id 모드 식별자
+     * @return 운용 모드
+     * @throws IllegalArgumentException 알 수 없는 식별자인 경우
+     */
+    static CipherMode fromId(int id) {
+        for (CipherMode mode : values()) {
+            if (mode.id == id) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown cipher mode id: " + id);
+    }
+
+    /**
+     * 헤더에 기록되는 식별자를 반환합니다.
+     *
+     * @return 모드 식별자
+     */
+    int id() {
+        return id;
+    }
+
+    /**
+     * JCA 변환 이름을 반환합니다.
+     *
+     * @return 변환 이름 (예: "AES/GCM/NoPadding")
+     */
+    String transformation() {
+        return transformation;
+    }
+
+    /**
+     * 본문 앞에 붙는 nonce/IV 길이를 반환합니다.
+     *
+     * @return nonce/IV 길이 (바이트)
+     */
+    int ivLength() {
+        return ivLength;
+    }
+
+    /**
+     * 본문 뒤에 붙는 인증 태그 길이를 반환합니다.
+     *
+     * @return 인증 태그 길이 (바이트)
+     */
+    int tagLength() {
+        return tagLength;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.encrypt;
+
+/**
+ * 버전이 지정된 암호문 헤더
+ *
+ * <p>{@link AesEncryptionService}가 생성하는 암호문은 다음과 같은 4바이트 헤더로 시작합니다.</p>
+ *
+ * <pre>
+ * +--------+--------+---------+-------+----------------
+ * | 0xAE   | 0x5C   | version | flags | body ...
+ * +--------+--------+---------+-------+----------------
+ * flags bit 0-1 : 압축 방식 ({@link Compression#id()})
+ * flags bit 2-3 : 운용 모드 ({@link CipherMode#id()})
+ * flags bit 4-7 : 예약 (항상 0)
+ * </pre>
+ *
+ * <p>버전 2는 {@link CipherMode}에 따른 인증 암호화 본문입니다. 버전 1은 배포되지 않았으며 사용하지 않습니다.
+ * 헤더가 없는 값은 기존(레거시) AES/ECB 암호문으로 취급합니다.</p>
+ *
+ * <p>버전 2 헤더를 가진 값은 항상 인증된 복호화만 시도하며, 인증에 실패해도 레거시 형식으로 다시 해석하지 않습니다.
+ * 따라서 레거시 암호문의 앞 4바이트가 우연히 유효한 헤더와 일치하면 어떤 경로로도 복호화되지 않습니다.
+ * 매직(16비트), 버전(8비트), 예약 비트(4비트), 운용 모드(4개 중 2개), 압축 방식(4개 중 3개)을 모두 확인하므로
+ * 무작위 값이 일치할 확률은 {@code 3/4 * 2^-29}(약 1.4 * 10<sup>-9</sup>)로, 10억 건 규모의 테이블에서는 한두 건이 나올 수 있습니다.
+ * {@link CiphertextMigrationJob}은 이런 값을 인증까지 확인하여 실패로 집계하고 키를 보고하므로, 원래 AES/ECB 방식으로 별도 복구해야 합니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class CiphertextHeader {
+
+    /**
+     * 헤더 길이 (바이트)
+     */
+    static final int LENGTH = 4;
+
+    /**
+     * 버전 2: {@link CipherMode} 기반 인증 암호화 본문
+     */
+    static final int VERSION_2 = 2;
+
+    /**
+     * 새 암호문에 기록하는 버전
+     */
+    static final int CURRENT_VERSION = VERSION_2;
+
+    private static final byte MAGIC_0 = (byte) 0xAE;
+    private static final byte MAGIC_1 = (byte) 0x5C;
+    private static final int COMPRESSION_MASK = 0x03;
+    private static final int MODE_SHIFT = 2;
+    private static final int MODE_MASK = 0x03;
+    private static final int RESERVED_MASK = 0xF0;
+
+    private CiphertextHeader() {
+    }
+
+    /**
+     * 현재 버전 헤더를 기록한 배열을 생성합니다.
+     *
+     * @param mode 운용 모드
+     * @param compression 적용된 압축 방식
+     * @param bodyLength 헤더 뒤에 올 본문 길이 (nonce와 태그 포함)
+     * @return 앞 {@link #LENGTH}바이트에 헤더가 기록된 배열
+     */
+    static byte[] allocate(CipherMode mode, Compression compression, int bodyLength) {
+        byte[] data = new byte[LENGTH + bodyLength];
+        writeHeader(data, CURRENT_VERSION,
+            (compression.id() & COMPRESSION_MASK) | ((mode.id() & MODE_MASK) << MODE_SHIFT));
+        return data;
+    }
+
+    /**
+     * 데이터가 헤더를 가진 암호문인지 확인합니다.
+     *
+     * @param data 확인할 암호문
+     * @return 알려진 버전의 헤더가 있으면 true, 레거시 암호문이면 false
+     */
+    static boolean isPresent(byte[] data) {
+        if (data.length <= LENGTH || data[0] != MAGIC_0 || data[1] != MAGIC_1) {
+            return false;
+        }
+
+        if (data[2] != VERSION_2 || (data[3] & RESERVED_MASK) != 0
+                || (data[3] & COMPRESSION_MASK) >= Compression.values().length) {
+            return false;
+        }
+
+        int modeId = (data[3] >>> MODE_SHIFT) & MODE_MASK;
+        if (modeId >= CipherMode.values().length) {
+            return false;
+        }
+        CipherMode mode = CipherMode.fromId(modeId);
+        return data.length >= LENGTH + mode.ivLength() + mode.tagLength();
+    }
+
+    /**
+     * 헤더에 기록된 버전을 반환합니다.
+     *
+     * @param data 헤더를 가진 암호문
+     * @return 형식 버전
+     */
+    static int version(byte[] data) {
+        return data[2];
+    }
+
+    /**
+     * 헤더에 기록된 압축 방식을 반환합니다.
+     *
+     * @param data 헤더를 가진 암호문
+     * @return 압축 방식
+     */
+    static Compression compression(byte[] data) {
+        return Compression.fromId(data[3] & COMPRESSION_MASK);
+    }
+
+    /**
+     * 헤더에 기록된 운용 모드를 반환합니다.
+     *
+     * @param data 헤더를 가진 암호문
+     * @return 운용 모드
+     */
+    static CipherMode mode(byte[] data) {
+        return CipherMode.fromId((data[3] >>> MODE_SHIFT) & MODE_MASK);
+    }
+
+    private static void writeHeader(byte[] data, int version, int flags) {
+        data[0] = MAGIC_0;
+        data[1] = MAGIC_1;
+        data[2] = (byte) version;
+        data[3] = (byte) flags;
+    }
+}
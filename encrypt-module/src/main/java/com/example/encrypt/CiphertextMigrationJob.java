@@ -0,0 +1,151 @@
+package com.example.encrypt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 암호문 형식 마이그레이션 작업
+ *
+ * <p>레거시 AES/ECB 암호문을 현재 형식(버전 2, AES-GCM 등)으로 배치 단위로 재암호화하여
+ * 원래 위치에 덮어씁니다. 이미 현재 형식인 값은 건너뛰므로 중단된 뒤 다시 실행해도 안전합니다.</p>
+ *
+ * <p>저장은 읽었던 원래 암호문을 조건으로 하는 조건부 갱신({@link EncryptedValueStore#update(List)})이므로,
+ * 작업 도중 애플리케이션이 새로 쓴 값을 덮어쓰지 않습니다. 이렇게 경합에서 밀린 행은 건너뛴 값으로 집계되며
+ * 다음 실행에서 다시 확인합니다.</p>
+ *
+ * <p>현재 형식 헤더를 가진 값도 실제로 인증되는지 확인합니다. 레거시 암호문이 우연히 헤더와 일치하거나
+ * 다른 키로 암호화된 값은 건너뛰지 않고 실패로 집계하며, 해당 키를 {@link Result#failedKeys()}로 보고합니다.</p>
+ *
+ * <p><strong>사용 예제:</strong></p>
+ * <pre>{@code
+ * CiphertextMigrationJob job = new CiphertextMigrationJob(aesEncryptionService, 500);
+ * CiphertextMigrationJob.Result<Long> result = job.run(accountSecretStore, secretKey);
+ * log.info("migrated={} skipped={} failed={}", result.migrated(), result.skipped(), result.failed());
+ * result.failedKeys().forEach(id -> log.warn("Cannot decrypt secret of account {}", id));
+ * }</pre>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see EncryptedValueStore
+ * @see AesEncryptionService#reencrypt(String, String)
+ */
+public class CiphertextMigrationJob {
+
+    /**
+     * 기본 배치 크기
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final AesEncryptionService encryptionService;
+    private final int batchSize;
+
+    /**
+     * 기본 배치 크기로 작업을 생성합니다.
+     *
+     * @param encryptionService 재암호화에 사용할 서비스 (운용 모드와 압축 설정이 새 암호문에 적용됨)
+     */
+    public CiphertextMigrationJob(AesEncryptionService encryptionService) {
+        this(encryptionService, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 배치 크기를 지정하여 작업을 생성합니다.
+     *
+     * @param encryptionService 재암호화에 사용할 서비스
+     * @param batchSize 한 번에 읽고 쓸 값의 개수
+     * @throws IllegalArgumentException encryptionService가 null이거나 batchSize가 1보다 작은 경우
+     */
+    public CiphertextMigrationJob(AesEncryptionService encryptionService, int batchSize) {
+        if (encryptionService == null) {
+            throw new IllegalArgumentException("Encryption service cannot be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.encryptionService = encryptionService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 저장소의 모든 값을 순회하며 현재 형식이 아닌 값을 재암호화합니다.
+     *
+     * <p>복호화하거나 인증할 수 없는 값은 그대로 두고 실패 건수와 실패 키 목록에 포함합니다.</p>
+     *
+     * @param store 암호문 저장소
+     * @param secretKey Base64로 인코딩된 비밀키
+     * @param <K> 키 타입
+     * @return 처리 결과
+     * @throws IllegalArgumentException store가 null이거나 secretKey가 null이거나 비어있는 경우
+     * @throws IllegalStateException 저장소가 보고한 갱신 수가 0보다 작거나 요청한 수보다 큰 경우
+     */
+    public <K> Result<K> run(EncryptedValueStore<K> store, String secretKey) {
+        if (store == null) {
+            throw new IllegalArgumentException("Store cannot be null");
+        }
+        if (secretKey == null || secretKey.isEmpty()) {
+            throw new IllegalArgumentException("Secret key cannot be null or empty");
+        }
+
+        long scanned = 0;
+        long migrated = 0;
+        List<K> failedKeys = new ArrayList<>();
+        K lastKey = null;
+
+        while (true) {
+            List<EncryptedValueStore.Entry<K>> batch = store.loadBatch(lastKey, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<EncryptedValueStore.Entry<K>> updates = new ArrayList<>(batch.size());
+            for (EncryptedValueStore.Entry<K> entry : batch) {
+                scanned++;
+                if (entry.value() == null || entry.value().isEmpty()) {
+                    continue;
+                }
+                try {
+                    if (encryptionService.isCurrentFormat(entry.value())) {
+                        // 헤더만 보고 건너뛰면 헤더와 우연히 일치하는 레거시 값이 마이그레이션된 것으로 집계된다.
+                        encryptionService.decrypt(entry.value(), secretKey);
+                    } else {
+                        updates.add(new EncryptedValueStore.Entry<>(entry.key(),
+                            encryptionService.reencrypt(entry.value(), secretKey), entry.value()));
+                    }
+                } catch (RuntimeException e) {
+                    failedKeys.add(entry.key());
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                int applied = store.update(updates);
+                if (applied < 0 || applied > updates.size()) {
+                    throw new IllegalStateException(
+                        "Store reported " + applied + " updated rows for a batch of " + updates.size());
+                }
+                migrated += applied;
+            }
+
+            lastKey = batch.get(batch.size() - 1).key();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        long failed = failedKeys.size();
+        return new Result<>(scanned, migrated, scanned - migrated - failed, failed, List.copyOf(failedKeys));
+    }
+
+    /**
+     * 마이그레이션 결과
+     *
+     * @param scanned 조회한 값의 수
+     * @param migrated 재암호화하여 실제로 저장한 값의 수
+     * @param skipped 이미 현재 형식이거나 비어있거나, 저장 전에 다른 값으로 바뀌어 건너뛴 값의 수
+     * @param failed 복호화 또는 인증에 실패한 값의 수
+     * @param failedKeys 실패한 값의 키 (조회 순서)
+     * @param <K> 키 타입
+     */
+    public record Result<K>(long scanned, long migrated, long skipped, long failed, List<K> failedKeys) {
+    }
+}
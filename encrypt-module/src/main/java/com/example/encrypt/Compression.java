@@ -0,0 +1,218 @@
+package com.example.encrypt;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 암호화 전 압축 방식
+ *
+ * <p>{@link AesEncryptionService}가 평문을 암호화하기 전에 적용할 압축 알고리즘을 지정합니다.
+ * 선택된 방식은 암호문 헤더에 기록되므로 복호화 시에는 설정과 무관하게 자동으로 판별됩니다.</p>
+ *
+ * <p>압축된 페이로드는 {@code [원본 길이(4바이트, big-endian)][압축 데이터]} 형식입니다.</p>
+ *
+ * <p><strong>주의:</strong> 압축하면 암호문 길이로 평문 내용이 드러납니다. 비밀 데이터와 공격자가 영향을 줄 수 있는 데이터가
+ * 섞인 값에는 {@link #NONE} 이외의 방식을 사용하지 마십시오.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see AesEncryptionService
+ */
+public enum Compression {
+
+    /**
+     * 압축하지 않음
+     */
+    NONE(0) {
+        @Override
+        byte[] compress(byte[] input) {
+            return input;
+        }
+
+        @Override
+        byte[] decompress(byte[] input, int offset, int length) {
+            byte[] output = new byte[length];
+            System.arraycopy(input, offset, output, 0, length);
+            return output;
+        }
+    },
+
+    /**
+     * Deflate (zlib) 압축. 압축률이 높고 추가 의존성이 없습니다.
+     */
+    DEFLATE(1) {
+        @Override
+        byte[] compress(byte[] input) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(input);
+                deflater.finish();
+
+                byte[] output = new byte[LENGTH_PREFIX + input.length + input.length / 1000 + 64];
+                writeLength(output, input.length);
+                int written = LENGTH_PREFIX;
+                while (!deflater.finished()) {
+                    if (written == output.length) {
+                        output = Arrays.copyOf(output, output.length * 2);
+                    }
+                    written += deflater.deflate(output, written, output.length - written);
+                }
+                return Arrays.copyOf(output, written);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] decompress(byte[] input, int offset, int length) {
+            byte[] output = new byte[readLength(input, offset, length)];
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(input, offset + LENGTH_PREFIX, length - LENGTH_PREFIX);
+                int read = 0;
+                while (!inflater.finished() && read < output.length) {
+                    int n = inflater.inflate(output, read, output.length - read);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    read += n;
+                }
+                if (read != output.length || !inflater.finished()) {
+                    throw new IllegalArgumentException("Corrupted compressed payload");
+                }
+                return output;
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("Corrupted compressed payload", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    },
+
+    /**
+     * LZ4 블록 압축. 압축률은 Deflate보다 낮지만 압축/해제 속도가 훨씬 빠릅니다.
+     */
+    LZ4(2) {
+        @Override
+        byte[] compress(byte[] input) {
+            LZ4Compressor compressor = Lz4Holder.FACTORY.fastCompressor();
+            byte[] output = new byte[LENGTH_PREFIX + compressor.maxCompressedLength(input.length)];
+            writeLength(output, input.length);
+            int written = compressor.compress(input, 0, input.length, output, LENGTH_PREFIX);
+            return Arrays.copyOf(output, LENGTH_PREFIX + written);
+        }
+
+        @Override
+        byte[] decompress(byte[] input, int offset, int length) {
+            byte[] output = new byte[readLength(input, offset, length)];
+            try {
+                int read = Lz4Holder.FACTORY.safeDecompressor()
+                    .decompress(input, offset + LENGTH_PREFIX, length - LENGTH_PREFIX, output, 0);
+                if (read != output.length) {
+                    throw new IllegalArgumentException("Corrupted compressed payload");
+                }
+                return output;
+            } catch (LZ4Exception e) {
+                throw new IllegalArgumentException("Corrupted compressed payload", e);
+            }
+        }
+    };
+
+    /**
+     * 압축 해제 시 허용하는 최대 원본 크기 (64MB)
+     *
+     * <p>손상되거나 조작된 헤더로 인해 과도한 메모리를 할당하지 않도록 합니다.
+     * {@link AesEncryptionService}는 이보다 큰 평문을 압축하지 않고 암호화합니다.</p>
+     */
+    public static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    private static final int LENGTH_PREFIX = 4;
+
+    private final int id;
+
+    Compression(int id) {
+        this.id = id;
+    }
+
+    /**
+     * 헤더에 기록되는 식별자를 반환합니다.
+     *
+     * @return 압축 방식 식별자
+     */
+    int id() {
+        return id;
+    }
+
+    /**
+     * 헤더에 기록된 식별자로 압축 방식을 찾습니다.
+     *
+     * @param id 압축 방식 식별자
+     * @return 압축 방식
+     * @throws IllegalArgumentException 알 수 없는 식별자인 경우
+     */
+    static Compression fromId(int id) {
+        for (Compression compression : values()) {
+            if (compression.id == id) {
+                return compression;
+            }
+        }
+        throw new IllegalArgumentException("Unknown compression id: " + id);
+    }
+
+    /**
+     * 입력을 압축합니다. {@link #NONE}이 아니면 원본 길이가 앞에 붙습니다.
+     *
+     * @param input 압축할 데이터
+     * @return 압축된 페이로드
+     */
+    abstract byte[] compress(byte[] input);
+
+    /**
+     * 페이로드의 압축을 해제합니다.
+     *
+     * @param input 페이로드가 포함된 배열
+     * @param offset 페이로드 시작 위치
+     * @param length 페이로드 길이
+     * @return 원본 데이터
+     * @throws IllegalArgumentException 페이로드가 손상된 경우
+     */
+    abstract byte[] decompress(byte[] input, int offset, int length);
+
+    private static void writeLength(byte[] output, int length) {
+        output[0] = (byte) (length >>> 24);
+        output[1] = (byte) (length >>> 16);
+        output[2] = (byte) (length >>> 8);
+        output[3] = (byte) length;
+    }
+
+    private static int readLength(byte[] input, int offset, int length) {
+        if (length < LENGTH_PREFIX) {
+            throw new IllegalArgumentException("Corrupted compressed payload");
+        }
+        int originalLength = ((input[offset] & 0xFF) << 24)
+            | ((input[offset + 1] & 0xFF) << 16)
+            | ((input[offset + 2] & 0xFF) << 8)
+            | (input[offset + 3] & 0xFF);
+        if (originalLength < 0 || originalLength > MAX_DECOMPRESSED_SIZE) {
+            throw new IllegalArgumentException("Invalid decompressed size: " + originalLength);
+        }
+        return originalLength;
+    }
+
+    /**
+     * LZ4 구현은 LZ4를 처음 사용할 때 로드합니다.
+     *
+     * <p>JNI 구현은 실행 시 네이티브 라이브러리를 풀어 로드하므로 네이티브 이미지에서 동작하지 않습니다.
+     * 순수 Java 구현만 사용하며, 이 구현을 리플렉션으로 찾는 데 필요한 정보는 {@link EncryptRuntimeHints}에 등록되어 있습니다.</p>
+     */
+    private static final class Lz4Holder {
+        private static final LZ4Factory FACTORY = LZ4Factory.fastestJavaInstance();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.encrypt;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.NoSuchPaddingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JCA 프로바이더 지연 조회기
+ *
+ * <p>알고리즘별 프로바이더는 빈 생성 시점이 아니라 해당 알고리즘을 처음 사용할 때 조회하며,
+ * 조회 결과를 캐시해 이후 호출에서는 전체 프로바이더 목록을 다시 탐색하지 않습니다.
+ * 이로써 애플리케이션 컨텍스트 기동 중에는 보안 프로바이더가 로드되지 않습니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class CryptoProviders {
+
+    private static final Map<String, Provider> DIGEST_PROVIDERS = new ConcurrentHashMap<>();
+    private static final Map<String, Provider> CIPHER_PROVIDERS = new ConcurrentHashMap<>();
+    private static final Map<String, Provider> KEY_GENERATOR_PROVIDERS = new ConcurrentHashMap<>();
+    private static final Map<String, Provider> MAC_PROVIDERS = new ConcurrentHashMap<>();
+
+    private CryptoProviders() {
+    }
+
+    /**
+     * 지정한 알고리즘의 {@link MessageDigest}를 생성합니다.
+     *
+     * @param algorithm 다이제스트 알고리즘 이름 (예: "SHA-256")
+     * @return 새 MessageDigest 인스턴스
+     * @throws NoSuchAlgorithmException 알고리즘을 지원하는 프로바이더가 없는 경우
+     */
+    static MessageDigest messageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Provider provider = DIGEST_PROVIDERS.get(algorithm);
+        if (provider != null) {
+            return MessageDigest.getInstance(algorithm, provider);
+        }
+
+        MessageDigest digest = MessageDigest.getInstance(algorithm);
+        DIGEST_PROVIDERS.putIfAbsent(algorithm, digest.getProvider());
+        return digest;
+    }
+
+    /**
+     * 지정한 변환의 {@link Cipher}를 생성합니다.
+     *
+     * @param transformation 변환 이름 (예: "AES/GCM/NoPadding")
+     * @return 새 Cipher 인스턴스
+     * @throws NoSuchAlgorithmException 변환을 지원하는 프로바이더가 없는 경우
+     * @throws NoSuchPaddingException 패딩 방식을 지원하지 않는 경우
+     */
+    static Cipher cipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+        Provider provider = CIPHER_PROVIDERS.get(transformation);
+        if (provider != null) {
+            return Cipher.getInstance(transformation, provider);
+        }
+
+        Cipher cipher = Cipher.getInstance(transformation);
+        CIPHER_PROVIDERS.putIfAbsent(transformation, cipher.getProvider());
+        return cipher;
+    }
+
+    /**
+     * 지정한 알고리즘의 {@link KeyGenerator}를 생성합니다.
+     *
+     * @param algorithm 키 알고리즘 이름 (예: "AES")
+     * @return 새 KeyGenerator 인스턴스
+     * @throws NoSuchAlgorithmException 알고리즘을 지원하는 프로바이더가 없는 경우
+     */
+    static KeyGenerator keyGenerator(String algorithm) throws NoSuchAlgorithmException {
+        Provider provider = KEY_GENERATOR_PROVIDERS.get(algorithm);
+        if (provider != null) {
+            return KeyGenerator.getInstance(algorithm, provider);
+        }
+
+        KeyGenerator generator = KeyGenerator.getInstance(algorithm);
+        KEY_GENERATOR_PROVIDERS.putIfAbsent(algorithm, generator.getProvider());
+        return generator;
+    }
+
+    /**
+     * 지정한 알고리즘의 {@link Mac}을 생성합니다.
+     *
+     * @param algorithm MAC 알고리즘 이름 (예: "HmacSHA256")
+     * @return 새 Mac 인스턴스
+     * @throws NoSuchAlgorithmException 알고리즘을 지원하는 프로바이더가 없는 경우
+     */
+    static Mac mac(String algorithm) throws NoSuchAlgorithmException {
+        Provider provider = MAC_PROVIDERS.get(algorithm);
+        if (provider != null) {
+            return Mac.getInstance(algorithm, provider);
+        }
+
+        Mac mac = Mac.getInstance(algorithm);
+        MAC_PROVIDERS.putIfAbsent(algorithm, mac.getProvider());
+        return mac;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.encrypt;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * encrypt-module의 AOT 런타임 힌트
+ *
+ * <p>Spring AOT 처리 및 네이티브 이미지 빌드 시 암호화 컴포넌트와
+ * {@link Compression#LZ4}가 사용하는 LZ4 순수 Java 구현({@code LZ4Factory}가 클래스 이름과 {@code INSTANCE} 필드로 찾음) 정보를 등록합니다.
+ * {@code META-INF/spring/aot.factories}를 통해 자동으로 적용됩니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class EncryptRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> component : new Class<?>[] {AesEncryptionService.class, HashService.class}) {
+            hints.reflection().registerType(component,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        for (String impl : new String[] {"JavaUnsafe", "JavaSafe"}) {
+            for (String type : new String[] {"LZ4%sCompressor", "LZ4HC%sCompressor",
+                    "LZ4%sFastDecompressor", "LZ4%sSafeDecompressor"}) {
+                hints.reflection().registerType(TypeReference.of("net.jpountz.lz4." + type.formatted(impl)),
+                    MemberCategory.PUBLIC_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        }
+    }
+}
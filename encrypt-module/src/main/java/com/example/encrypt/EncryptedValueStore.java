@@ -0,0 +1,80 @@
+package com.example.encrypt;
+
+import java.util.List;
+
+/**
+ * 암호화된 값을 보관하는 저장소
+ *
+ * <p>{@link CiphertextMigrationJob}이 기존 암호문을 배치 단위로 읽고 같은 위치에 다시 쓰는 데 사용합니다.
+ * 구현체는 키 순서대로(keyset pagination) 배치를 반환해야 합니다.</p>
+ *
+ * <p>작업이 값을 읽은 뒤 저장하기 전에 애플리케이션이 같은 행에 새 값을 쓸 수 있으므로,
+ * {@link #update(List)}는 반드시 조건부(compare-and-set)로 구현해야 합니다. 현재 값이
+ * {@link Entry#expectedValue()}와 같은 행만 갱신하고, 갱신된 행의 수를 반환합니다.</p>
+ *
+ * <p><strong>구현 예제 (JdbcTemplate):</strong></p>
+ * <pre>{@code
+ * public List<EncryptedValueStore.Entry<Long>> loadBatch(Long afterKey, int batchSize) {
+ *     return jdbcTemplate.query(
+ *         "SELECT id, secret FROM accounts WHERE id > ? ORDER BY id LIMIT ?",
+ *         (rs, n) -> new EncryptedValueStore.Entry<>(rs.getLong(1), rs.getString(2)),
+ *         afterKey == null ? 0L : afterKey, batchSize);
+ * }
+ *
+ * public int update(List<EncryptedValueStore.Entry<Long>> entries) {
+ *     int[][] counts = jdbcTemplate.batchUpdate(
+ *         "UPDATE accounts SET secret = ? WHERE id = ? AND secret = ?", entries, entries.size(),
+ *         (ps, e) -> { ps.setString(1, e.value()); ps.setLong(2, e.key()); ps.setString(3, e.expectedValue()); });
+ *     return Arrays.stream(counts).flatMapToInt(Arrays::stream).sum();
+ * }
+ * }</pre>
+ *
+ * @param <K> 행을 식별하는 키 타입
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CiphertextMigrationJob
+ */
+public interface EncryptedValueStore<K> {
+
+    /**
+     * {@code afterKey}보다 큰 키의 값을 키 오름차순으로 최대 {@code batchSize}개 조회합니다.
+     *
+     * @param afterKey 이전 배치의 마지막 키 (첫 배치는 null)
+     * @param batchSize 최대 조회 개수
+     * @return 조회된 값 목록 (더 없으면 빈 목록)
+     */
+    List<Entry<K>> loadBatch(K afterKey, int batchSize);
+
+    /**
+     * 재암호화된 값을 같은 키 위치에 조건부로 저장합니다.
+     *
+     * <p>현재 저장된 값이 {@link Entry#expectedValue()}와 같은 행만 {@link Entry#value()}로 갱신해야 합니다.
+     * 그 사이 다른 값으로 바뀐 행은 그대로 두며, 이런 행은 갱신 수에서 빠지고 다음 실행에서 다시 처리됩니다.</p>
+     *
+     * @param entries 저장할 값 목록 (각 항목은 읽었던 원래 암호문을 포함)
+     * @return 실제로 갱신된 행의 수
+     */
+    int update(List<Entry<K>> entries);
+
+    /**
+     * 키와 Base64 암호문 쌍
+     *
+     * @param key 행 식별 키
+     * @param value Base64로 인코딩된 암호문
+     * @param expectedValue 조건부 갱신 시 현재 저장되어 있어야 하는 암호문 (조회 결과는 null)
+     * @param <K> 키 타입
+     */
+    record Entry<K>(K key, String value, String expectedValue) {
+
+        /**
+         * 조회 결과 항목을 생성합니다.
+         *
+         * @param key 행 식별 키
+         * @param value Base64로 인코딩된 암호문
+         */
+        public Entry(K key, String value) {
+            this(key, value, null);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.encrypt;
 
+import com.example.util.AsciiCodec;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
@@ -62,19 +63,9 @@ public class HashService {
         }
         
         try {
-            MessageDigest digest = MessageDigest.getInstance(algorithm);
+            MessageDigest digest = CryptoProviders.messageDigest(algorithm);
             byte[] hashBytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            
-            return hexString.toString();
+            return AsciiCodec.encodeHex(hashBytes);
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("Hash generation failed", e);
         }
@@ -0,0 +1,70 @@
+package com.example.encrypt;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시성 환경에서 안전한 nonce 생성기
+ *
+ * <p>NIST SP 800-38D 8.2.1의 결정적 구성을 따라 12바이트 nonce를
+ * {@code [고정 필드(8바이트)][호출 카운터(4바이트)]}로 만듭니다.
+ * 고정 필드는 인스턴스를 만들 때 {@link SecureRandom}으로 한 번 정한 값에서 시작하며,
+ * 카운터 2<sup>32</sup>개를 모두 사용할 때마다 1씩 증가합니다.</p>
+ *
+ * <p>상태는 인스턴스 하나에 속한 {@link AtomicLong} 하나뿐이므로 스레드 수명과 무관하게 인스턴스 안에서는
+ * nonce가 절대 반복되지 않습니다. 가상 스레드처럼 요청마다 새 스레드를 만드는 환경에서도 안전하며,
+ * 잠금 없이 원자적 증가만 수행하고 {@link SecureRandom}은 생성 시 한 번만 호출합니다.
+ * 서로 다른 인스턴스끼리는 64비트 무작위 고정 필드로 구분됩니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class NonceGenerator {
+
+    /**
+     * 생성되는 nonce 길이 (바이트)
+     */
+    static final int NONCE_LENGTH = 12;
+
+    private final long fixedBase;
+    private final AtomicLong invocations;
+
+    /**
+     * 무작위 고정 필드로 생성기를 만듭니다.
+     */
+    NonceGenerator() {
+        this(new SecureRandom().nextLong(), 0L);
+    }
+
+    /**
+     * 고정 필드와 시작 호출 번호를 지정하여 생성기를 만듭니다.
+     *
+     * @param fixedBase 고정 필드 시작값
+     * @param firstInvocation 첫 호출 번호
+     */
+    NonceGenerator(long fixedBase, long firstInvocation) {
+        this.fixedBase = fixedBase;
+        this.invocations = new AtomicLong(firstInvocation);
+    }
+
+    /**
+     * 새 nonce를 {@code dst[offset]}부터 {@link #NONCE_LENGTH}바이트 기록합니다.
+     *
+     * @param dst 기록할 배열
+     * @param offset 시작 위치
+     */
+    void next(byte[] dst, int offset) {
+        long invocation = invocations.getAndIncrement();
+        long fixed = fixedBase + (invocation >>> 32);
+        int counter = (int) invocation;
+
+        for (int i = 0; i < 8; i++) {
+            dst[offset + i] = (byte) (fixed >>> (56 - 8 * i));
+        }
+        dst[offset + 8] = (byte) (counter >>> 24);
+        dst[offset + 9] = (byte) (counter >>> 16);
+        dst[offset + 10] = (byte) (counter >>> 8);
+        dst[offset + 11] = (byte) counter;
+    }
+}
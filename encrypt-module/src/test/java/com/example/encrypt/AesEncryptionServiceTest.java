@@ -0,0 +1,280 @@
+package com.example.encrypt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AesEncryptionService 테스트")
+class AesEncryptionServiceTest {
+
+    /**
+     * 고정 테스트 벡터용 비밀키 (0x00 ~ 0x1F)
+     */
+    private static final String FIXED_KEY = "AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8=";
+
+    /**
+     * 헤더 없는 AES/ECB/PKCS5Padding("legacy-secret-value")
+     */
+    private static final String LEGACY_ECB_VECTOR = "qqVCuwie2LvtxAh6moK0oLfQ5hf/9M/t55CKsqahBMQ=";
+
+    private static final String REPETITIVE_JSON =
+        "{\"name\":\"value\",\"name\":\"value\",\"name\":\"value\",\"name\":\"value\"}";
+
+    /**
+     * 16바이트 평문: GCM 암호문 길이가 AES 블록의 배수가 되어 레거시 형식과 길이로 구분되지 않는 경우
+     */
+    private static final String BLOCK_SIZED_PLAIN_TEXT = "0123456789abcdef";
+
+    private final AesEncryptionService aesService = new AesEncryptionService();
+
+    static Stream<Arguments> modesAndCompressions() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (CipherMode mode : CipherMode.values()) {
+            for (Compression compression : Compression.values()) {
+                arguments.add(Arguments.of(mode, compression));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("modesAndCompressions")
+    @DisplayName("모든 운용 모드와 압축 방식에서 암호화 후 복호화하면 원문이 복원된다")
+    void encryptDecrypt_AllModesAndCompressions_ReturnsSameText(CipherMode mode, Compression compression) {
+        // given
+        AesEncryptionService service = new AesEncryptionService(mode, compression, 0);
+        String secretKey = service.generateSecretKey();
+        String largeText = REPETITIVE_JSON.repeat(64);
+
+        for (String plainText : List.of("a", BLOCK_SIZED_PLAIN_TEXT, "한글 평문", largeText)) {
+            // when
+            String encrypted = service.encrypt(plainText, secretKey);
+            byte[] encryptedBytes = service.encryptToBytes(plainText, secretKey);
+
+            // then
+            assertNotEquals(plainText, encrypted);
+            assertTrue(service.isCurrentFormat(encrypted));
+            assertEquals(plainText, service.decrypt(encrypted, secretKey));
+            assertEquals(plainText, service.decryptBytes(encryptedBytes, secretKey));
+            // 다른 설정의 인스턴스로도 복호화된다.
+            assertEquals(plainText, aesService.decrypt(encrypted, secretKey));
+        }
+    }
+
+    @Test
+    @DisplayName("압축 모드에서는 반복적인 큰 평문의 암호문이 더 작다")
+    void encryptToBytes_CompressibleText_IsSmallerThanUncompressed() {
+        // given
+        String secretKey = aesService.generateSecretKey();
+        String largeText = REPETITIVE_JSON.repeat(64);
+        AesEncryptionService compressing = new AesEncryptionService(Compression.DEFLATE, 0);
+
+        // when
+        byte[] plain = aesService.encryptToBytes(largeText, secretKey);
+        byte[] compressed = compressing.encryptToBytes(largeText, secretKey);
+
+        // then
+        assertTrue(compressed.length < plain.length / 4);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = {"DEFLATE", "LZ4"})
+    @DisplayName("압축 해제 한도보다 큰 평문은 압축하지 않아 복호화할 수 있다")
+    void encryptToBytes_AboveMaxDecompressedSize_SkipsCompression(Compression compression) {
+        // given
+        AesEncryptionService service = new AesEncryptionService(compression, 0);
+        String secretKey = service.generateSecretKey();
+
+        for (int length : new int[] {Compression.MAX_DECOMPRESSED_SIZE, Compression.MAX_DECOMPRESSED_SIZE + 1}) {
+            String plainText = "a".repeat(length);
+
+            // when
+            byte[] encrypted = service.encryptToBytes(plainText, secretKey);
+
+            // then
+            Compression expected = length <= Compression.MAX_DECOMPRESSED_SIZE ? compression : Compression.NONE;
+            assertEquals(expected, CiphertextHeader.compression(encrypted), "length " + length);
+            assertEquals(plainText, service.decryptBytes(encrypted, secretKey), "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 평문도 매번 다른 암호문이 생성된다")
+    void encrypt_SamePlainText_ReturnsDifferentCiphertexts() {
+        // given
+        String secretKey = aesService.generateSecretKey();
+
+        // when
+        String first = aesService.encrypt(BLOCK_SIZED_PLAIN_TEXT, secretKey);
+        String second = aesService.encrypt(BLOCK_SIZED_PLAIN_TEXT, secretKey);
+
+        // then
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("헤더 없는 레거시 ECB 벡터는 전환용 경로로만 복호화된다")
+    void decryptAllowingLegacy_LegacyEcbVector_ReturnsPlainText() {
+        // when
+        String decrypted = aesService.decryptAllowingLegacy(LEGACY_ECB_VECTOR, FIXED_KEY);
+
+        // then
+        assertEquals("legacy-secret-value", decrypted);
+        assertFalse(aesService.isCurrentFormat(LEGACY_ECB_VECTOR));
+        assertThrows(RuntimeException.class, () -> aesService.decrypt(LEGACY_ECB_VECTOR, FIXED_KEY));
+    }
+
+    @ParameterizedTest
+    @EnumSource(CipherMode.class)
+    @DisplayName("레거시 벡터를 재암호화하면 현재 형식으로 복호화된다")
+    void reencrypt_LegacyVectors_ProducesCurrentFormat(CipherMode mode) {
+        // given
+        AesEncryptionService service = new AesEncryptionService(mode, Compression.NONE, 0);
+
+        // when
+        String fromLegacy = service.reencrypt(LEGACY_ECB_VECTOR, FIXED_KEY);
+
+        // then
+        assertTrue(service.isCurrentFormat(fromLegacy));
+        assertEquals("legacy-secret-value", service.decrypt(fromLegacy, FIXED_KEY));
+    }
+
+    @ParameterizedTest
+    @EnumSource(CipherMode.class)
+    @DisplayName("변조된 현재 형식 암호문은 모든 경로에서 항상 예외를 던진다")
+    void decrypt_TamperedValue_AlwaysThrows(CipherMode mode) {
+        // given
+        AesEncryptionService service = new AesEncryptionService(mode, Compression.NONE, 0);
+        String secretKey = service.generateSecretKey();
+        byte[] original = Base64.getDecoder().decode(service.encrypt(BLOCK_SIZED_PLAIN_TEXT, secretKey));
+        Random random = new Random(30L);
+
+        // when & then: 모든 바이트의 모든 비트
+        for (int i = 0; i < original.length; i++) {
+            for (int bit = 0; bit < 8; bit++) {
+                byte[] tampered = original.clone();
+                tampered[i] ^= (byte) (1 << bit);
+                assertRejected(service, tampered, secretKey, "byte " + i + ", bit " + bit);
+            }
+        }
+
+        // when & then: 무작위 다중 바이트 변조
+        for (int n = 0; n < 20_000; n++) {
+            byte[] tampered = original.clone();
+            int changes = 1 + random.nextInt(4);
+            for (int c = 0; c < changes; c++) {
+                tampered[random.nextInt(tampered.length)] ^= (byte) (1 + random.nextInt(255));
+            }
+            if (!Arrays.equals(tampered, original)) {
+                assertRejected(service, tampered, secretKey, "random tampering " + n);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(CipherMode.class)
+    @DisplayName("잘린 암호문은 항상 예외를 던진다")
+    void decrypt_TruncatedValue_AlwaysThrows(CipherMode mode) {
+        // given
+        AesEncryptionService service = new AesEncryptionService(mode, Compression.NONE, 0);
+        String secretKey = service.generateSecretKey();
+        byte[] original = Base64.getDecoder().decode(service.encrypt(BLOCK_SIZED_PLAIN_TEXT, secretKey));
+
+        // when & then
+        for (int length = 1; length < original.length; length++) {
+            assertRejected(service, Arrays.copyOf(original, length), secretKey, "length " + length);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(CipherMode.class)
+    @DisplayName("버전 바이트를 다른 값으로 바꾼 암호문은 복호화되지 않는다")
+    void decrypt_VersionDowngradedValue_Throws(CipherMode mode) {
+        // given
+        AesEncryptionService service = new AesEncryptionService(mode, Compression.NONE, 0);
+        String secretKey = service.generateSecretKey();
+        byte[] original = Base64.getDecoder().decode(service.encrypt(BLOCK_SIZED_PLAIN_TEXT, secretKey));
+
+        // when & then
+        for (int version : new int[] {0, 1, 3, 0x7F, 0xFF}) {
+            byte[] downgraded = original.clone();
+            downgraded[2] = (byte) version;
+            // 레거시 AES 블록 길이(16의 배수)에 맞춘 값도 함께 확인한다.
+            byte[] truncated = Arrays.copyOf(downgraded, downgraded.length - downgraded.length % 16);
+            assertRejected(service, downgraded, secretKey, "version " + version);
+            assertRejected(service, truncated, secretKey, "version " + version + ", block aligned");
+        }
+    }
+
+    @Test
+    @DisplayName("예약 비트나 알 수 없는 압축 방식이 설정된 헤더는 현재 형식으로 인정하지 않는다")
+    void isCurrentFormat_ReservedBitsOrUnknownCompression_ReturnsFalse() {
+        // given
+        String secretKey = aesService.generateSecretKey();
+        byte[] original = Base64.getDecoder().decode(aesService.encrypt(BLOCK_SIZED_PLAIN_TEXT, secretKey));
+
+        // when & then
+        for (int flags : new int[] {0x10, 0x20, 0x40, 0x80, 0x03}) {
+            byte[] modified = original.clone();
+            modified[3] = (byte) (original[3] | flags);
+            String encoded = Base64.getEncoder().encodeToString(modified);
+            assertFalse(aesService.isCurrentFormat(encoded), "flags " + flags);
+            assertThrows(RuntimeException.class, () -> aesService.decrypt(encoded, secretKey), "flags " + flags);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 키로 복호화하면 예외를 던진다")
+    void decrypt_WrongKey_Throws() {
+        // given
+        String encrypted = aesService.encrypt(BLOCK_SIZED_PLAIN_TEXT, aesService.generateSecretKey());
+        String otherKey = aesService.generateSecretKey();
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> aesService.decrypt(encrypted, otherKey));
+        assertThrows(RuntimeException.class, () -> aesService.decryptAllowingLegacy(encrypted, otherKey));
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 입력은 IllegalArgumentException을 던진다")
+    void encryptDecrypt_NullOrEmptyInput_ThrowsIllegalArgumentException() {
+        // given
+        String secretKey = aesService.generateSecretKey();
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> aesService.encrypt(null, secretKey));
+        assertThrows(IllegalArgumentException.class, () -> aesService.encrypt("", secretKey));
+        assertThrows(IllegalArgumentException.class, () -> aesService.decrypt(null, secretKey));
+        assertThrows(IllegalArgumentException.class, () -> aesService.decryptBytes(new byte[0], secretKey));
+        assertThrows(IllegalArgumentException.class, () -> aesService.encrypt("text", null));
+    }
+
+    /**
+     * 변조된 값이 strict 경로와 전환용 경로 모두에서 거부되는지 확인합니다.
+     */
+    private static void assertRejected(AesEncryptionService service, byte[] tampered, String secretKey, String message) {
+        String encoded = Base64.getEncoder().encodeToString(tampered);
+        assertThrows(RuntimeException.class, () -> service.decryptBytes(tampered, secretKey), message);
+        assertThrows(RuntimeException.class, () -> service.decrypt(encoded, secretKey), message);
+        if (CiphertextHeader.isPresent(tampered) && CiphertextHeader.version(tampered) == CiphertextHeader.CURRENT_VERSION) {
+            // 현재 형식 헤더가 남아 있으면 전환용 경로도 레거시로 다시 시도하지 않아야 한다.
+            assertThrows(RuntimeException.class, () -> service.decryptAllowingLegacy(encoded, secretKey), message);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.encrypt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CiphertextMigrationJob 테스트")
+class CiphertextMigrationJobTest {
+
+    private final AesEncryptionService aesService = new AesEncryptionService();
+    private final String secretKey = aesService.generateSecretKey();
+
+    @Test
+    @DisplayName("레거시 값만 재암호화하고 현재 형식, 빈 값, 복호화 불가 값은 건너뛴다")
+    void run_MixedFormats_MigratesOnlyLegacyValues() {
+        // given
+        InMemoryStore store = new InMemoryStore();
+        Map<Long, String> expected = new TreeMap<>();
+        for (long key = 1; key <= 5; key++) {
+            store.values.put(key, legacyEncrypt("legacy-" + key));
+            expected.put(key, "legacy-" + key);
+        }
+        for (long key = 6; key <= 8; key++) {
+            store.values.put(key, aesService.encrypt("current-" + key, secretKey));
+            expected.put(key, "current-" + key);
+        }
+        store.values.put(9L, null);
+        store.values.put(10L, Base64.getEncoder().encodeToString(new byte[15]));
+        String current = store.values.get(6L);
+
+        // when
+        CiphertextMigrationJob.Result<Long> result = new CiphertextMigrationJob(aesService, 3).run(store, secretKey);
+
+        // then
+        assertEquals(new CiphertextMigrationJob.Result<>(10, 5, 4, 1, List.of(10L)), result);
+        expected.forEach((key, plain) -> assertEquals(plain, aesService.decrypt(store.values.get(key), secretKey)));
+        assertEquals(current, store.values.get(6L));
+        assertNull(store.values.get(9L));
+        assertEquals(List.of(3, 2), store.updateSizes);
+    }
+
+    @Test
+    @DisplayName("중간에 중단된 작업을 다시 실행하면 남은 값만 재암호화한다")
+    void run_InterruptedMidway_ResumesWithRemainingValues() {
+        // given
+        InMemoryStore store = new InMemoryStore();
+        for (long key = 1; key <= 10; key++) {
+            store.values.put(key, legacyEncrypt("value-" + key));
+        }
+        store.failOnUpdateCall = 2;
+        CiphertextMigrationJob job = new CiphertextMigrationJob(aesService, 4);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> job.run(store, secretKey));
+        store.failOnUpdateCall = 0;
+        CiphertextMigrationJob.Result<Long> resumed = job.run(store, secretKey);
+        CiphertextMigrationJob.Result<Long> rerun = job.run(store, secretKey);
+
+        // then
+        assertEquals(new CiphertextMigrationJob.Result<>(10, 6, 4, 0, List.of()), resumed);
+        assertEquals(new CiphertextMigrationJob.Result<>(10, 0, 10, 0, List.of()), rerun);
+        for (long key = 1; key <= 10; key++) {
+            assertTrue(aesService.isCurrentFormat(store.values.get(key)));
+            assertEquals("value-" + key, aesService.decrypt(store.values.get(key), secretKey));
+        }
+    }
+
+    @Test
+    @DisplayName("값의 수가 배치 크기의 배수이면 빈 배치를 확인한 뒤 종료한다")
+    void run_ExactMultipleOfBatchSize_StopsAfterEmptyBatch() {
+        // given
+        InMemoryStore store = new InMemoryStore();
+        for (long key = 1; key <= 6; key++) {
+            store.values.put(key, legacyEncrypt("value-" + key));
+        }
+
+        // when
+        CiphertextMigrationJob.Result<Long> result = new CiphertextMigrationJob(aesService, 3).run(store, secretKey);
+
+        // then
+        assertEquals(new CiphertextMigrationJob.Result<>(6, 6, 0, 0, List.of()), result);
+        assertEquals(3, store.loadCalls);
+    }
+
+    @Test
+    @DisplayName("현재 형식 헤더를 가졌지만 인증되지 않는 값은 건너뛰지 않고 실패 키로 보고한다")
+    void run_HeaderLookingValueFailsAuthentication_ReportsFailedKey() {
+        // given
+        InMemoryStore store = new InMemoryStore();
+        byte[] collision = new byte[48];
+        new Random(30L).nextBytes(collision);
+        // 레거시 ECB 암호문의 앞 4바이트가 우연히 GCM, 압축 없음 헤더와 일치한 경우
+        collision[0] = (byte) 0xAE;
+        collision[1] = (byte) 0x5C;
+        collision[2] = CiphertextHeader.VERSION_2;
+        collision[3] = 0;
+        String collided = Base64.getEncoder().encodeToString(collision);
+        String otherKeyValue = aesService.encrypt("other-key", aesService.generateSecretKey());
+        store.values.put(1L, aesService.encrypt("current", secretKey));
+        store.values.put(2L, collided);
+        store.values.put(3L, otherKeyValue);
+        store.values.put(4L, legacyEncrypt("legacy"));
+
+        // when
+        CiphertextMigrationJob.Result<Long> result = new CiphertextMigrationJob(aesService).run(store, secretKey);
+
+        // then
+        assertTrue(aesService.isCurrentFormat(collided));
+        assertEquals(new CiphertextMigrationJob.Result<>(4, 1, 1, 2, List.of(2L, 3L)), result);
+        assertEquals(collided, store.values.get(2L));
+        assertEquals(otherKeyValue, store.values.get(3L));
+        assertEquals("legacy", aesService.decrypt(store.values.get(4L), secretKey));
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 저장 전에 다른 값으로 바뀐 행은 덮어쓰지 않고 건너뛴 값으로 집계한다")
+    void run_ValueChangedBeforeUpdate_KeepsNewValueAndCountsAsSkipped() {
+        // given
+        InMemoryStore store = new InMemoryStore();
+        for (long key = 1; key <= 4; key++) {
+            store.values.put(key, legacyEncrypt("value-" + key));
+        }
+        String concurrentWrite = aesService.encrypt("changed-2", secretKey);
+        store.beforeUpdate = () -> store.values.put(2L, concurrentWrite);
+        CiphertextMigrationJob job = new CiphertextMigrationJob(aesService);
+
+        // when
+        CiphertextMigrationJob.Result<Long> result = job.run(store, secretKey);
+        store.beforeUpdate = () -> { };
+        CiphertextMigrationJob.Result<Long> rerun = job.run(store, secretKey);
+
+        // then
+        assertEquals(new CiphertextMigrationJob.Result<>(4, 3, 1, 0, List.of()), result);
+        assertEquals(new CiphertextMigrationJob.Result<>(4, 0, 4, 0, List.of()), rerun);
+        assertEquals(concurrentWrite, store.values.get(2L));
+        assertEquals("value-1", aesService.decrypt(store.values.get(1L), secretKey));
+    }
+
+    @Test
+    @DisplayName("저장소가 요청보다 많은 갱신 수를 보고하면 IllegalStateException을 던진다")
+    void run_StoreReportsTooManyUpdates_ThrowsIllegalStateException() {
+        // given
+        EncryptedValueStore<Long> store = new EncryptedValueStore<>() {
+            @Override
+            public List<Entry<Long>> loadBatch(Long afterKey, int batchSize) {
+                return afterKey == null ? List.of(new Entry<>(1L, legacyEncrypt("value"))) : List.of();
+            }
+
+            @Override
+            public int update(List<Entry<Long>> entries) {
+                return entries.size() + 1;
+            }
+        };
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> new CiphertextMigrationJob(aesService).run(store, secretKey));
+    }
+
+    @Test
+    @DisplayName("잘못된 인자는 IllegalArgumentException을 던진다")
+    void run_InvalidArguments_ThrowsIllegalArgumentException() {
+        // given
+        CiphertextMigrationJob job = new CiphertextMigrationJob(aesService);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new CiphertextMigrationJob(null));
+        assertThrows(IllegalArgumentException.class, () -> new CiphertextMigrationJob(aesService, 0));
+        assertThrows(IllegalArgumentException.class, () -> job.run(null, secretKey));
+        assertThrows(IllegalArgumentException.class, () -> job.run(new InMemoryStore(), ""));
+    }
+
+    /**
+     * 헤더 없는 레거시 AES/ECB 암호문을 생성합니다.
+     */
+    private String legacyEncrypt(String plainText) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(Base64.getDecoder().decode(secretKey), "AES"));
+            return Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 키 순서로 조회하는 메모리 저장소
+     */
+    private static final class InMemoryStore implements EncryptedValueStore<Long> {
+
+        private final TreeMap<Long, String> values = new TreeMap<>();
+        private final List<Integer> updateSizes = new ArrayList<>();
+        private int loadCalls;
+        private int updateCalls;
+        private int failOnUpdateCall;
+        private Runnable beforeUpdate = () -> { };
+
+        @Override
+        public List<Entry<Long>> loadBatch(Long afterKey, int batchSize) {
+            loadCalls++;
+            Map<Long, String> tail = afterKey == null ? values : values.tailMap(afterKey, false);
+            List<Entry<Long>> batch = new ArrayList<>();
+            for (Map.Entry<Long, String> entry : tail.entrySet()) {
+                if (batch.size() == batchSize) {
+                    break;
+                }
+                batch.add(new Entry<>(entry.getKey(), entry.getValue()));
+            }
+            return batch;
+        }
+
+        @Override
+        public int update(List<Entry<Long>> entries) {
+            if (++updateCalls == failOnUpdateCall) {
+                throw new IllegalStateException("Simulated failure");
+            }
+            beforeUpdate.run();
+            updateSizes.add(entries.size());
+            int applied = 0;
+            for (Entry<Long> entry : entries) {
+                if (values.replace(entry.key(), entry.expectedValue(), entry.value())) {
+                    applied++;
+                }
+            }
+            return applied;
+        }
+    }
+}
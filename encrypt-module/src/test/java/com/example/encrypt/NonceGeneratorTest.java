@@ -0,0 +1,71 @@
+package com.example.encrypt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("NonceGenerator 테스트")
+class NonceGeneratorTest {
+
+    @Test
+    @DisplayName("요청마다 새 가상 스레드에서 생성해도 nonce가 중복되지 않는다")
+    void next_ThreadPerTask_NeverRepeats() throws Exception {
+        // given
+        NonceGenerator generator = new NonceGenerator();
+        Set<ByteBuffer> nonces = ConcurrentHashMap.newKeySet();
+        int count = 50_000;
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> {
+                    byte[] nonce = new byte[NonceGenerator.NONCE_LENGTH];
+                    generator.next(nonce, 0);
+                    nonces.add(ByteBuffer.wrap(nonce));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        assertEquals(count, nonces.size());
+    }
+
+    @Test
+    @DisplayName("카운터가 한 바퀴 돌면 고정 필드가 증가한다")
+    void next_CounterWrapsAround_AdvancesFixedField() {
+        // given
+        NonceGenerator generator = new NonceGenerator(0x0102030405060708L, 0xFFFF_FFFEL);
+        Set<ByteBuffer> nonces = new HashSet<>();
+
+        // when
+        byte[][] generated = new byte[3][NonceGenerator.NONCE_LENGTH];
+        for (byte[] nonce : generated) {
+            generator.next(nonce, 0);
+            nonces.add(ByteBuffer.wrap(nonce));
+        }
+
+        // then
+        assertEquals(3, nonces.size());
+        assertEquals(0x0102030405060708L, ByteBuffer.wrap(generated[1]).getLong(0));
+        assertEquals(0xFFFF_FFFF, ByteBuffer.wrap(generated[1]).getInt(8));
+        assertEquals(0x0102030405060709L, ByteBuffer.wrap(generated[2]).getLong(0));
+        assertEquals(0, ByteBuffer.wrap(generated[2]).getInt(8));
+        assertTrue(generated[0][11] == (byte) 0xFE);
+    }
+}
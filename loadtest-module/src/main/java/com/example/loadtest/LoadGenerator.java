@@ -0,0 +1,287 @@
+package com.example.loadtest;
+
+import com.example.domain.entity.User;
+import com.example.domain.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model) 부하 발생기
+ * 
+ * <p>디스패처 스레드 하나가 설정된 도착률에 따라 요청의 예정 시작 시각을 미리 정하고, 그 시각이 되면
+ * 작업을 실행기에 넘깁니다. 이전 요청의 완료를 기다리지 않으므로 {@link UserService}가 느려져도
+ * 요청은 계속 도착하고, 밀린 요청의 대기 시간은 응답 시간에 그대로 반영됩니다.</p>
+ * 
+ * <p>작업 종류와 대상 사용자 슬롯은 디스패처가 {@code seed}로 초기화한 난수로 결정하므로,
+ * 같은 설정이면 빌드가 달라도 동일한 요청 순서가 재현됩니다.</p>
+ * 
+ * <p>다른 스레드가 먼저 삭제한 사용자를 수정하려는 경우처럼 동시 실행으로 인한 예외도 오류로 집계됩니다.</p>
+ * 
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class LoadGenerator {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+    
+    /**
+     * 부하 테스트 사용자의 공통 비밀번호
+     */
+    private static final String PASSWORD = "loadtest-password";
+    
+    /**
+     * 초기 사용자가 없을 때의 사용자 풀 크기
+     */
+    private static final int DEFAULT_POOL_CAPACITY = 1024;
+    
+    /**
+     * 측정 종료 후 남은 요청의 완료를 기다리는 최대 시간 (초)
+     */
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+    
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    
+    private final UserService userService;
+    private final LoadTestProperties properties;
+    private final AtomicLong userSequence = new AtomicLong();
+    
+    /**
+     * LoadGenerator 생성자
+     * 
+     * @param userService 부하 대상 사용자 서비스
+     * @param properties 부하 테스트 설정
+     */
+    public LoadGenerator(UserService userService, LoadTestProperties properties) {
+        this.userService = userService;
+        this.properties = properties;
+    }
+    
+    /**
+     * 초기 사용자를 등록한 뒤 워밍업과 측정 구간의 부하를 발생시킵니다.
+     * 
+     * @return 측정 구간의 결과
+     * @throws RuntimeException 남은 요청을 기다리는 중 인터럽트된 경우
+     */
+    public LoadTestReport run() {
+        UserPool pool = seedUsers();
+        
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+        
+        SplittableRandom random = new SplittableRandom(properties.seed());
+        ExecutorService executor = newExecutor();
+        long dispatched;
+        long measuredNanos;
+        boolean drained;
+        
+        try {
+            long warmupStart = System.nanoTime();
+            long measureStart = warmupStart + properties.warmup().toNanos();
+            long measureEnd = measureStart + properties.duration().toNanos();
+            
+            log.info("Warming up for {}", properties.warmup());
+            dispatch(executor, pool, null, random, warmupStart, measureStart);
+            
+            log.info("Measuring for {} at {} ops/s ({}, {})", properties.duration(), properties.rate(),
+                properties.arrival(), properties.threadMode());
+            dispatched = dispatch(executor, pool, stats, random, measureStart, measureEnd);
+            measuredNanos = System.nanoTime() - measureStart;
+        } finally {
+            executor.shutdown();
+        }
+        
+        try {
+            drained = executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (!drained) {
+                log.warn("Requests still running after {}s; reporting partial results", DRAIN_TIMEOUT_SECONDS);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for in-flight requests", e);
+        }
+        
+        List<LoadTestReport.OperationResult> results = new ArrayList<>();
+        for (OperationStats operationStats : stats.values()) {
+            results.add(operationStats.snapshot());
+        }
+        return new LoadTestReport(properties, dispatched, measuredNanos, drained, results);
+    }
+    
+    /**
+     * 지정한 구간 동안 예정 시각마다 요청을 실행기에 넘깁니다.
+     * 
+     * <p>디스패처가 예정 시각보다 늦었다면 기다리지 않고 밀린 요청을 연달아 넘깁니다.
+     * 이때도 각 요청의 예정 시각은 바뀌지 않습니다.</p>
+     * 
+     * @param executor 요청을 실행할 실행기
+     * @param pool 사용자 풀
+     * @param stats 작업 종류별 기록기 (null이면 기록하지 않음)
+     * @param random 작업 종류와 슬롯을 정하는 난수 생성기
+     * @param start 구간 시작 시각 ({@link System#nanoTime()} 기준)
+     * @param end 구간 종료 시각
+     * @return 넘긴 요청 수
+     */
+    private long dispatch(ExecutorService executor, UserPool pool, Map<Operation, OperationStats> stats,
+                          SplittableRandom random, long start, long end) {
+        LoadTestProperties.Mix mix = properties.mix();
+        int totalWeight = Operation.totalWeight(mix);
+        long intended = start;
+        long count = 0;
+        
+        while (intended < end) {
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            
+            Operation operation = Operation.pick(mix, random.nextInt(totalWeight));
+            long slot = random.nextLong();
+            long scheduled = intended;
+            OperationStats operationStats = stats != null ? stats.get(operation) : null;
+            executor.execute(() -> execute(operation, slot, scheduled, pool, operationStats));
+            count++;
+            
+            intended += nextInterval(random);
+        }
+        
+        return count;
+    }
+    
+    /**
+     * 다음 요청까지의 간격을 계산합니다.
+     * 
+     * @param random 난수 생성기
+     * @return 간격 (나노초)
+     */
+    private long nextInterval(SplittableRandom random) {
+        double mean = NANOS_PER_SECOND / properties.rate();
+        return switch (properties.arrival()) {
+            case CONSTANT -> Math.round(mean);
+            case POISSON -> Math.round(-Math.log(1.0 - random.nextDouble()) * mean);
+        };
+    }
+    
+    /**
+     * 요청 하나를 실행하고 지연 시간을 기록합니다.
+     * 
+     * @param operation 작업 종류
+     * @param slot 대상 사용자 슬롯 선택용 난수
+     * @param intendedStart 예정 시작 시각
+     * @param pool 사용자 풀
+     * @param stats 기록기 (null이면 워밍업 요청)
+     */
+    private void execute(Operation operation, long slot, long intendedStart, UserPool pool, OperationStats stats) {
+        long actualStart = System.nanoTime();
+        boolean performed;
+        boolean failed = false;
+        
+        try {
+            performed = invoke(operation, slot, pool);
+        } catch (RuntimeException e) {
+            performed = true;
+            failed = true;
+            log.debug("{} failed: {}", operation, e.getMessage());
+        }
+        
+        long end = System.nanoTime();
+        if (stats == null) {
+            return;
+        }
+        if (performed) {
+            stats.record(intendedStart, actualStart, end, failed);
+        } else {
+            stats.recordMiss();
+        }
+    }
+    
+    /**
+     * UserService를 호출합니다.
+     * 
+     * @param operation 작업 종류
+     * @param slot 대상 사용자 슬롯 선택용 난수
+     * @param pool 사용자 풀
+     * @return 호출했으면 true, 대상 슬롯이 비어 호출하지 못했으면 false
+     */
+    private boolean invoke(Operation operation, long slot, UserPool pool) {
+        if (operation == Operation.REGISTER) {
+            pool.put(slot, register());
+            return true;
+        }
+        
+        UserPool.PooledUser user = operation == Operation.DELETE ? pool.take(slot) : pool.get(slot);
+        if (user == null) {
+            return false;
+        }
+        
+        switch (operation) {
+            case AUTHENTICATE -> userService.authenticate(user.username(), PASSWORD);
+            case FIND -> userService.findById(user.id());
+            case UPDATE -> {
+                User changes = new User();
+                changes.setEnabled((slot & Long.MIN_VALUE) == 0);
+                userService.updateUser(user.id(), changes);
+            }
+            case DELETE -> userService.deleteUser(user.id());
+            default -> throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+        return true;
+    }
+    
+    /**
+     * 고유한 이름으로 사용자를 등록합니다.
+     * 
+     * @return 등록된 사용자
+     */
+    private UserPool.PooledUser register() {
+        String username = "lt" + userSequence.incrementAndGet();
+        User saved = userService.registerUser(new User(username, username + "@loadtest.example", PASSWORD));
+        return new UserPool.PooledUser(saved.getId(), username);
+    }
+    
+    /**
+     * 부하 시작 전에 초기 사용자를 등록하여 풀을 채웁니다.
+     * 
+     * @return 초기 사용자로 채운 풀
+     */
+    private UserPool seedUsers() {
+        int initialUsers = properties.initialUsers();
+        UserPool pool = new UserPool(initialUsers > 0 ? initialUsers : DEFAULT_POOL_CAPACITY);
+        
+        log.info("Registering {} initial users", initialUsers);
+        for (int i = 0; i < initialUsers; i++) {
+            pool.set(i, register());
+        }
+        return pool;
+    }
+    
+    /**
+     * 설정된 스레드 종류의 실행기를 생성합니다.
+     * 
+     * @return 요청 실행기
+     */
+    private ExecutorService newExecutor() {
+        return switch (properties.threadMode()) {
+            case PLATFORM -> Executors.newFixedThreadPool(properties.platformThreads(),
+                Thread.ofPlatform().name("loadtest-", 0).factory());
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("loadtest-v-", 0).factory());
+        };
+    }
+}
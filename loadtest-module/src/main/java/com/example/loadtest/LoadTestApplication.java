@@ -0,0 +1,43 @@
+package com.example.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * UserService 부하 테스트 애플리케이션
+ * 
+ * <p>인메모리 H2 데이터베이스 위에 util, encrypt, domain 모듈의 빈을 그대로 올린 뒤
+ * {@link LoadTestRunner}가 설정된 부하를 발생시키고 보고서를 출력합니다.
+ * 운영과 같은 조건이 되도록 {@code @EnableScheduling}을 선언하여 사용자 통계의 주기적 반영도 함께 실행하며,
+ * 부하 테스트가 끝나면 애플리케이션은 종료됩니다.</p>
+ * 
+ * <p><strong>실행 예제:</strong></p>
+ * <pre>{@code
+ * ./gradlew :loadtest-module:bootRun
+ * ./gradlew :loadtest-module:bootRun --args='--loadtest.rate=2000 --loadtest.thread-mode=VIRTUAL'
+ * }</pre>
+ * 
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@SpringBootApplication(scanBasePackages = "com.example")
+@EntityScan(basePackages = "com.example.domain.entity")
+@EnableJpaRepositories(basePackages = "com.example.domain.repository")
+@EnableConfigurationProperties(LoadTestProperties.class)
+@EnableScheduling
+public class LoadTestApplication {
+    
+    /**
+     * 부하 테스트를 실행합니다.
+     * 
+     * @param args 명령행 인자 ({@code --loadtest.*} 설정 재정의)
+     */
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(LoadTestApplication.class, args)));
+    }
+}
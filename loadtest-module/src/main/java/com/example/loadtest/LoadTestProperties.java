@@ -0,0 +1,134 @@
+package com.example.loadtest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정
+ * 
+ * <p>{@code loadtest.*} 프로퍼티로 바인딩되며, 명령행 인자로 재정의할 수 있습니다.
+ * 같은 설정과 {@code seed}를 사용하면 요청의 종류와 도착 간격이 동일하게 재현되므로
+ * 빌드 간 보고서를 비교할 수 있습니다.</p>
+ * 
+ * @param rate 초당 목표 요청 수 (열린 모델의 도착률)
+ * @param duration 측정 구간 길이
+ * @param warmup 측정 전 워밍업 구간 길이 (이 구간의 기록은 버림)
+ * @param threadMode 요청을 실행할 스레드 종류
+ * @param platformThreads {@link ThreadMode#PLATFORM}일 때 스레드 풀 크기
+ * @param arrival 요청 도착 간격 분포
+ * @param initialUsers 부하 시작 전에 미리 등록할 사용자 수
+ * @param seed 요청 순서를 결정하는 난수 시드
+ * @param reportDir 보고서 파일을 기록할 디렉토리
+ * @param mix 작업 종류별 가중치
+ * 
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "loadtest")
+public record LoadTestProperties(
+        @DefaultValue("1000") int rate,
+        @DefaultValue("30s") Duration duration,
+        @DefaultValue("10s") Duration warmup,
+        @DefaultValue("PLATFORM") ThreadMode threadMode,
+        @DefaultValue("64") int platformThreads,
+        @DefaultValue("POISSON") Arrival arrival,
+        @DefaultValue("1000") int initialUsers,
+        @DefaultValue("42") long seed,
+        @DefaultValue("build/loadtest") String reportDir,
+        @DefaultValue Mix mix) {
+    
+    /**
+     * 설정 값을 검증합니다.
+     * 
+     * @throws IllegalArgumentException 설정 값이 유효하지 않은 경우
+     */
+    public LoadTestProperties {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + rate);
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        }
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException("Warmup cannot be negative: " + warmup);
+        }
+        if (platformThreads <= 0) {
+            throw new IllegalArgumentException("Platform thread count must be positive: " + platformThreads);
+        }
+        if (initialUsers < 0) {
+            throw new IllegalArgumentException("Initial user count cannot be negative: " + initialUsers);
+        }
+    }
+    
+    /**
+     * 요청을 실행할 스레드 종류
+     */
+    public enum ThreadMode {
+        /** 고정 크기 플랫폼 스레드 풀 (대기 중인 요청은 큐에 쌓임) */
+        PLATFORM,
+        /** 요청마다 가상 스레드 하나 */
+        VIRTUAL
+    }
+    
+    /**
+     * 요청 도착 간격 분포
+     */
+    public enum Arrival {
+        /** 고정 간격 ({@code 1 / rate}) */
+        CONSTANT,
+        /** 지수 분포 간격 (포아송 과정) */
+        POISSON
+    }
+    
+    /**
+     * 작업 종류별 가중치
+     * 
+     * <p>각 값은 상대적인 비율이며 합이 100일 필요는 없습니다. 0이면 해당 작업을 실행하지 않습니다.</p>
+     * 
+     * @param register 사용자 등록
+     * @param authenticate 사용자 인증
+     * @param find ID로 사용자 조회
+     * @param update 활성화 여부 변경
+     * @param delete 사용자 삭제
+     */
+    public record Mix(
+            @DefaultValue("10") int register,
+            @DefaultValue("50") int authenticate,
+            @DefaultValue("30") int find,
+            @DefaultValue("8") int update,
+            @DefaultValue("2") int delete) {
+        
+        /**
+         * 가중치를 검증합니다.
+         * 
+         * @throws IllegalArgumentException 음수 가중치가 있거나 합이 0인 경우
+         */
+        public Mix {
+            if (register < 0 || authenticate < 0 || find < 0 || update < 0 || delete < 0) {
+                throw new IllegalArgumentException("Operation weights cannot be negative");
+            }
+            if (register + authenticate + find + update + delete == 0) {
+                throw new IllegalArgumentException("At least one operation weight must be positive");
+            }
+        }
+        
+        /**
+         * 작업 종류의 가중치를 반환합니다.
+         * 
+         * @param operation 작업 종류
+         * @return 가중치
+         */
+        public int weightOf(Operation operation) {
+            return switch (operation) {
+                case REGISTER -> register;
+                case AUTHENTICATE -> authenticate;
+                case FIND -> find;
+                case UPDATE -> update;
+                case DELETE -> delete;
+            };
+        }
+    }
+}
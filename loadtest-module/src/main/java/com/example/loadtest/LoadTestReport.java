@@ -0,0 +1,266 @@
+package com.example.loadtest;
+
+import com.example.util.AsciiCodec;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 부하 테스트 결과 보고서
+ * 
+ * <p>작업 종류별 응답 시간(coordinated omission 보정)과 서비스 시간(보정 없음)의 백분위수를
+ * 표준 출력용 표와 JSON 요약으로 만듭니다. JSON 요약에는 설정과 실행 환경이 함께 기록되므로
+ * 서로 다른 빌드의 결과를 같은 조건에서 비교할 수 있습니다.</p>
+ * 
+ * @param properties 부하 테스트 설정
+ * @param dispatched 측정 구간에 넘긴 요청 수
+ * @param measuredNanos 측정 구간의 실제 길이
+ * @param drained 모든 요청이 제한 시간 안에 끝났는지 여부
+ * @param operations 작업 종류별 결과
+ * 
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record LoadTestReport(
+        LoadTestProperties properties,
+        long dispatched,
+        long measuredNanos,
+        boolean drained,
+        List<OperationResult> operations) {
+    
+    /**
+     * 보고서에 표시하는 백분위수
+     */
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    
+    private static final String[] PERCENTILE_LABELS = {"p50", "p90", "p99", "p999"};
+    
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
+    /**
+     * 작업 종류별 결과
+     * 
+     * @param operation 작업 종류 (전체 합계이면 null)
+     * @param responseTime 예정 시작 시각 기준 응답 시간 히스토그램 (나노초)
+     * @param serviceTime 실제 시작 시각 기준 서비스 시간 히스토그램 (나노초)
+     * @param errors 예외로 끝난 요청 수
+     * @param misses 대상 사용자가 없어 실행하지 않은 요청 수
+     */
+    public record OperationResult(
+            Operation operation,
+            Histogram responseTime,
+            Histogram serviceTime,
+            long errors,
+            long misses) {
+        
+        /**
+         * 완료된 요청 수를 반환합니다.
+         * 
+         * @return 완료된 요청 수 (오류 포함, 미실행 제외)
+         */
+        public long count() {
+            return responseTime.getTotalCount();
+        }
+        
+        /**
+         * 표시용 이름을 반환합니다.
+         * 
+         * @return 작업 종류 이름 또는 "ALL"
+         */
+        public String name() {
+            return operation != null ? operation.name() : "ALL";
+        }
+    }
+    
+    /**
+     * 모든 작업 종류를 합친 결과를 반환합니다.
+     * 
+     * @return 전체 합계 결과
+     */
+    public OperationResult total() {
+        Histogram response = new Histogram(3);
+        Histogram service = new Histogram(3);
+        long errors = 0;
+        long misses = 0;
+        for (OperationResult result : operations) {
+            response.add(result.responseTime());
+            service.add(result.serviceTime());
+            errors += result.errors();
+            misses += result.misses();
+        }
+        return new OperationResult(null, response, service, errors, misses);
+    }
+    
+    /**
+     * 작업 종류별 결과를 표로 출력합니다.
+     * 
+     * @param out 출력 스트림
+     */
+    public void print(PrintStream out) {
+        OperationResult total = total();
+        
+        out.println();
+        out.println("=== UserService load test ===");
+        out.printf(Locale.ROOT, "java=%s processors=%d asciiCodec=%s%n",
+            Runtime.version(), Runtime.getRuntime().availableProcessors(), AsciiCodec.implementationName());
+        out.printf(Locale.ROOT, "rate=%d/s arrival=%s threads=%s%s duration=%s warmup=%s seed=%d%n",
+            properties.rate(), properties.arrival(), properties.threadMode(),
+            properties.threadMode() == LoadTestProperties.ThreadMode.PLATFORM ? "(" + properties.platformThreads() + ")" : "",
+            properties.duration(), properties.warmup(), properties.seed());
+        out.printf(Locale.ROOT, "dispatched=%d completed=%d achieved=%.1f/s%s%n",
+            dispatched, total.count(), throughput(total),
+            drained ? "" : " (INCOMPLETE: requests still running at shutdown)");
+        
+        out.println();
+        out.println("Response time, ms (from intended start, corrected for coordinated omission)");
+        printTable(out, total, true);
+        
+        out.println();
+        out.println("Service time, ms (from actual start, uncorrected)");
+        printTable(out, total, false);
+        out.println();
+    }
+    
+    /**
+     * JSON 요약과 작업 종류별 응답 시간 분포({@code .hgrm})를 실행 시각 이름의 하위 디렉토리에 기록합니다.
+     * 
+     * <p>{@code .hgrm} 파일은 밀리초 단위이며 HdrHistogram 플로터로 빌드 간 분포를 겹쳐 볼 수 있습니다.</p>
+     * 
+     * @param directory 보고서 루트 디렉토리
+     * @return 보고서를 기록한 디렉토리
+     * @throws RuntimeException 파일을 기록하지 못한 경우
+     */
+    public Path writeTo(Path directory) {
+        Path runDirectory = directory.resolve(LocalDateTime.now().format(RUN_ID_FORMAT));
+        
+        try {
+            Files.createDirectories(runDirectory);
+            Files.writeString(runDirectory.resolve("summary.json"), toJson(), StandardCharsets.UTF_8);
+            
+            OperationResult total = total();
+            for (OperationResult result : operations) {
+                writeDistribution(runDirectory, result);
+            }
+            writeDistribution(runDirectory, total);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write load test report to " + runDirectory, e);
+        }
+        
+        return runDirectory;
+    }
+    
+    /**
+     * 보고서를 JSON 문자열로 변환합니다.
+     * 
+     * @return JSON 요약
+     */
+    public String toJson() {
+        LoadTestProperties.Mix mix = properties.mix();
+        StringBuilder json = new StringBuilder(2048);
+        
+        json.append("{\n");
+        json.append("  \"environment\": {")
+            .append("\"java\": \"").append(Runtime.version()).append("\", ")
+            .append("\"processors\": ").append(Runtime.getRuntime().availableProcessors()).append(", ")
+            .append("\"asciiCodec\": \"").append(AsciiCodec.implementationName()).append("\"},\n");
+        json.append("  \"config\": {")
+            .append("\"rate\": ").append(properties.rate()).append(", ")
+            .append("\"arrival\": \"").append(properties.arrival()).append("\", ")
+            .append("\"threadMode\": \"").append(properties.threadMode()).append("\", ")
+            .append("\"platformThreads\": ").append(properties.platformThreads()).append(", ")
+            .append("\"durationSeconds\": ").append(properties.duration().toSeconds()).append(", ")
+            .append("\"warmupSeconds\": ").append(properties.warmup().toSeconds()).append(", ")
+            .append("\"initialUsers\": ").append(properties.initialUsers()).append(", ")
+            .append("\"seed\": ").append(properties.seed()).append(", ")
+            .append("\"mix\": {");
+        Operation[] values = Operation.values();
+        for (int i = 0; i < values.length; i++) {
+            json.append(i > 0 ? ", " : "")
+                .append('"').append(values[i].name()).append("\": ").append(mix.weightOf(values[i]));
+        }
+        json.append("}},\n");
+        json.append("  \"dispatched\": ").append(dispatched).append(",\n");
+        json.append("  \"measuredSeconds\": ").append(format(measuredNanos / 1_000_000_000.0)).append(",\n");
+        json.append("  \"drained\": ").append(drained).append(",\n");
+        json.append("  \"operations\": {\n");
+        for (OperationResult result : operations) {
+            appendJson(json, result).append(",\n");
+        }
+        appendJson(json, total()).append("\n");
+        json.append("  }\n");
+        json.append("}\n");
+        
+        return json.toString();
+    }
+    
+    private void printTable(PrintStream out, OperationResult total, boolean response) {
+        out.printf(Locale.ROOT, "%-12s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+            "operation", "count", "errors", "misses", "ops/s", "p50", "p90", "p99", "p99.9", "max");
+        for (OperationResult result : operations) {
+            printRow(out, result, response);
+        }
+        printRow(out, total, response);
+    }
+    
+    private void printRow(PrintStream out, OperationResult result, boolean response) {
+        Histogram histogram = response ? result.responseTime() : result.serviceTime();
+        out.printf(Locale.ROOT, "%-12s %9d %7d %7d %9.1f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+            result.name(), result.count(), result.errors(), result.misses(), throughput(result),
+            millis(histogram.getValueAtPercentile(PERCENTILES[0])),
+            millis(histogram.getValueAtPercentile(PERCENTILES[1])),
+            millis(histogram.getValueAtPercentile(PERCENTILES[2])),
+            millis(histogram.getValueAtPercentile(PERCENTILES[3])),
+            millis(histogram.getMaxValue()));
+    }
+    
+    private StringBuilder appendJson(StringBuilder json, OperationResult result) {
+        json.append("    \"").append(result.name()).append("\": {")
+            .append("\"count\": ").append(result.count()).append(", ")
+            .append("\"errors\": ").append(result.errors()).append(", ")
+            .append("\"misses\": ").append(result.misses()).append(", ")
+            .append("\"throughput\": ").append(format(throughput(result))).append(", ")
+            .append("\"responseTimeMs\": ");
+        appendPercentiles(json, result.responseTime()).append(", \"serviceTimeMs\": ");
+        return appendPercentiles(json, result.serviceTime()).append('}');
+    }
+    
+    private static StringBuilder appendPercentiles(StringBuilder json, Histogram histogram) {
+        json.append('{');
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            json.append('"').append(PERCENTILE_LABELS[i]).append("\": ")
+                .append(format(millis(histogram.getValueAtPercentile(PERCENTILES[i])))).append(", ");
+        }
+        return json.append("\"max\": ").append(format(millis(histogram.getMaxValue()))).append(", ")
+            .append("\"mean\": ").append(format(histogram.getMean() / NANOS_PER_MILLI)).append('}');
+    }
+    
+    private static void writeDistribution(Path directory, OperationResult result) throws IOException {
+        Path file = directory.resolve(result.name().toLowerCase(Locale.ROOT) + "-response.hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            result.responseTime().outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+    
+    private double throughput(OperationResult result) {
+        return measuredNanos > 0 ? result.count() * 1_000_000_000.0 / measuredNanos : 0.0;
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+    
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 애플리케이션 기동 후 부하 테스트를 실행하고 보고서를 출력하는 러너
+ * 
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class LoadTestRunner implements ApplicationRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+    
+    private final LoadGenerator loadGenerator;
+    private final LoadTestProperties properties;
+    
+    /**
+     * LoadTestRunner 생성자
+     * 
+     * @param loadGenerator 부하 발생기
+     * @param properties 부하 테스트 설정
+     */
+    public LoadTestRunner(LoadGenerator loadGenerator, LoadTestProperties properties) {
+        this.loadGenerator = loadGenerator;
+        this.properties = properties;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        LoadTestReport report = loadGenerator.run();
+        report.print(System.out);
+        
+        Path written = report.writeTo(Path.of(properties.reportDir()));
+        log.info("Load test report written to {}", written.toAbsolutePath());
+    }
+}
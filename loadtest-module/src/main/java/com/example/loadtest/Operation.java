@@ -0,0 +1,60 @@
+package com.example.loadtest;
+
+/**
+ * 부하 테스트에서 발생시키는 UserService 작업 종류
+ * 
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum Operation {
+    
+    /** {@code UserService.registerUser} */
+    REGISTER,
+    
+    /** {@code UserService.authenticate} */
+    AUTHENTICATE,
+    
+    /** {@code UserService.findById} */
+    FIND,
+    
+    /** {@code UserService.updateUser} (활성화 여부 변경) */
+    UPDATE,
+    
+    /** {@code UserService.deleteUser} */
+    DELETE;
+    
+    private static final Operation[] VALUES = values();
+    
+    /**
+     * 가중치에 따라 작업 종류를 선택합니다.
+     * 
+     * @param mix 작업 종류별 가중치
+     * @param roll {@code [0, 가중치 합)} 범위의 난수
+     * @return 선택된 작업 종류
+     */
+    static Operation pick(LoadTestProperties.Mix mix, int roll) {
+        int remaining = roll;
+        for (Operation operation : VALUES) {
+            remaining -= mix.weightOf(operation);
+            if (remaining < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Roll exceeds total weight: " + roll);
+    }
+    
+    /**
+     * 모든 작업 종류의 가중치 합을 반환합니다.
+     * 
+     * @param mix 작업 종류별 가중치
+     * @return 가중치 합
+     */
+    static int totalWeight(LoadTestProperties.Mix mix) {
+        int total = 0;
+        for (Operation operation : VALUES) {
+            total += mix.weightOf(operation);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 종류별 지연 시간 기록기
+ * 
+ * <p>두 가지 지연 시간을 나노초 단위로 기록합니다.</p>
+ * <ul>
+ *   <li><strong>응답 시간:</strong> 요청이 도착했어야 할 예정 시각부터 완료까지.
+ *       시스템이 밀려 요청이 늦게 시작되어도 대기 시간이 포함되므로 coordinated omission이 보정됩니다.</li>
+ *   <li><strong>서비스 시간:</strong> 실제로 실행을 시작한 시각부터 완료까지. 보정되지 않은 값입니다.</li>
+ * </ul>
+ * 
+ * <p>{@link Recorder}는 대기 없이 기록하므로 여러 스레드에서 동시에 호출해도 측정에 간섭하지 않습니다.</p>
+ * 
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class OperationStats {
+    
+    /**
+     * 히스토그램 유효 숫자 자릿수
+     */
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    private final Operation operation;
+    private final Recorder responseTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder serviceTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    /**
+     * 작업 종류별 기록기를 생성합니다.
+     * 
+     * @param operation 작업 종류
+     */
+    OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+    
+    /**
+     * 완료된 요청의 지연 시간을 기록합니다.
+     * 
+     * @param intendedStartNanos 예정 시작 시각 ({@link System#nanoTime()} 기준)
+     * @param actualStartNanos 실제 시작 시각
+     * @param endNanos 완료 시각
+     * @param failed 예외로 끝났는지 여부
+     */
+    void record(long intendedStartNanos, long actualStartNanos, long endNanos, boolean failed) {
+        responseTime.recordValue(endNanos - intendedStartNanos);
+        serviceTime.recordValue(endNanos - actualStartNanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+    
+    /**
+     * 대상 사용자가 풀에 없어 실행하지 못한 요청을 기록합니다.
+     */
+    void recordMiss() {
+        misses.increment();
+    }
+    
+    /**
+     * 지금까지의 기록을 결과로 만듭니다.
+     * 
+     * @return 작업 종류별 결과
+     */
+    LoadTestReport.OperationResult snapshot() {
+        Histogram response = responseTime.getIntervalHistogram();
+        Histogram service = serviceTime.getIntervalHistogram();
+        return new LoadTestReport.OperationResult(operation, response, service, errors.sum(), misses.sum());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.loadtest;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 부하 테스트 대상 사용자 풀
+ * 
+ * <p>고정 크기 슬롯 배열에 등록된 사용자를 보관합니다. 슬롯은 요청마다 미리 뽑아 둔 난수로 선택하므로
+ * 잠금 없이 여러 스레드에서 동시에 접근할 수 있습니다. 새로 등록된 사용자는 기존 슬롯을 덮어쓰고,
+ * 삭제된 사용자의 슬롯은 다음 등록 전까지 비어 있습니다.</p>
+ * 
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class UserPool {
+    
+    /**
+     * 풀에 보관하는 사용자 정보
+     * 
+     * @param id 사용자 ID
+     * @param username 사용자 이름
+     */
+    record PooledUser(Long id, String username) {
+    }
+    
+    private final AtomicReferenceArray<PooledUser> slots;
+    
+    /**
+     * 지정한 크기의 빈 풀을 생성합니다.
+     * 
+     * @param capacity 슬롯 수
+     * @throws IllegalArgumentException capacity가 0 이하인 경우
+     */
+    UserPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+    
+    /**
+     * 슬롯 수를 반환합니다.
+     * 
+     * @return 슬롯 수
+     */
+    int capacity() {
+        return slots.length();
+    }
+    
+    /**
+     * 지정한 슬롯에 사용자를 저장합니다.
+     * 
+     * @param index 슬롯 번호
+     * @param user 저장할 사용자
+     */
+    void set(int index, PooledUser user) {
+        slots.set(index, user);
+    }
+    
+    /**
+     * 난수로 선택한 슬롯에 사용자를 저장합니다. 기존 사용자는 풀에서 빠집니다.
+     * 
+     * @param random 슬롯 선택용 난수
+     * @param user 저장할 사용자
+     */
+    void put(long random, PooledUser user) {
+        slots.set(slotOf(random), user);
+    }
+    
+    /**
+     * 난수로 선택한 슬롯의 사용자를 반환합니다.
+     * 
+     * @param random 슬롯 선택용 난수
+     * @return 사용자 (슬롯이 비어 있으면 null)
+     */
+    PooledUser get(long random) {
+        return slots.get(slotOf(random));
+    }
+    
+    /**
+     * 난수로 선택한 슬롯의 사용자를 꺼내고 슬롯을 비웁니다.
+     * 
+     * <p>같은 사용자를 두 스레드가 동시에 삭제하지 않도록 꺼내는 동작은 원자적으로 수행됩니다.</p>
+     * 
+     * @param random 슬롯 선택용 난수
+     * @return 사용자 (슬롯이 비어 있으면 null)
+     */
+    PooledUser take(long random) {
+        return slots.getAndSet(slotOf(random), null);
+    }
+    
+    private int slotOf(long random) {
+        return (int) Long.remainderUnsigned(random, slots.length());
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AsciiCodec} 성능 비교 벤치마크
+ *
+ * <p>기존 반복문({@link Legacy}), 스칼라 구현({@link Scalar}), Vector API 구현({@link Vector})을 같은 입력으로 비교합니다.
+ * 스칼라와 벡터는 {@link AsciiCodec}의 공개 메서드를 그대로 호출하므로 문자열 복사와 결과 문자열 생성 비용이 포함되며,
+ * 구현은 클래스 초기화 시 한 번만 선택되므로 {@value AsciiCodec#DISABLE_VECTOR_PROPERTY} 프로퍼티로 포크를 나누어 측정합니다.</p>
+ *
+ * <pre>
+ * ./gradlew :util-module:jmh
+ * </pre>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public abstract class AsciiCodecBenchmark {
+
+    /**
+     * 입력 길이 (32 = SHA-256 다이제스트 크기)
+     */
+    @Param({"32", "256", "4096"})
+    private int size;
+
+    byte[] bytes;
+    String hex;
+    String text;
+    String blank;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        bytes = new byte[size];
+        random.nextBytes(bytes);
+        hex = AsciiCodec.encodeHex(bytes);
+
+        StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            sb.append((char) ('A' + random.nextInt(58)));
+        }
+        text = sb.toString();
+        blank = " ".repeat(size);
+    }
+
+    /**
+     * {@link AsciiCodec} 도입 전의 반복문 구현
+     */
+    public static class Legacy extends AsciiCodecBenchmark {
+
+        @Benchmark
+        public String encodeHex() {
+            StringBuilder hexString = new StringBuilder();
+            for (byte b : bytes) {
+                String h = Integer.toHexString(0xff & b);
+                if (h.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(h);
+            }
+            return hexString.toString();
+        }
+
+        @Benchmark
+        public String toLowerCase() {
+            StringBuilder lower = new StringBuilder(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                lower.append(Character.toLowerCase(text.charAt(i)));
+            }
+            return lower.toString();
+        }
+
+        @Benchmark
+        public boolean isBlank() {
+            return blank.trim().isEmpty();
+        }
+    }
+
+    /**
+     * 공개 {@link AsciiCodec} 메서드 벤치마크. 하위 클래스의 포크 설정에 따라 구현이 결정됩니다.
+     */
+    public abstract static class Codec extends AsciiCodecBenchmark {
+
+        /**
+         * 포크에서 선택된 구현이 기대한 구현인지 확인합니다.
+         *
+         * @param expectedPrefix 기대하는 {@link AsciiCodec#implementationName()} 접두사
+         */
+        void verifyImplementation(String expectedPrefix) {
+            String name = AsciiCodec.implementationName();
+            if (!name.startsWith(expectedPrefix)) {
+                throw new IllegalStateException("Expected " + expectedPrefix + " kernel but got " + name);
+            }
+        }
+
+        @Benchmark
+        public String encodeHex() {
+            return AsciiCodec.encodeHex(bytes);
+        }
+
+        @Benchmark
+        public byte[] decodeHex() {
+            return AsciiCodec.decodeHex(hex);
+        }
+
+        @Benchmark
+        public String toLowerCase() {
+            return AsciiCodec.toLowerCase(text);
+        }
+
+        @Benchmark
+        public boolean isBlank() {
+            return AsciiCodec.isBlank(blank);
+        }
+    }
+
+    /**
+     * 스칼라 구현을 강제한 포크
+     */
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector",
+        "-D" + AsciiCodec.DISABLE_VECTOR_PROPERTY + "=true"})
+    public static class Scalar extends Codec {
+
+        @Setup
+        public void checkKernel() {
+            verifyImplementation("scalar");
+        }
+    }
+
+    /**
+     * Vector API 구현을 사용하는 포크
+     */
+    public static class Vector extends Codec {
+
+        @Setup
+        public void checkKernel() {
+            verifyImplementation("vector");
+        }
+    }
+}
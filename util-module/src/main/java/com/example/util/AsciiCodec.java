@@ -0,0 +1,183 @@
+package com.example.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 16진수 및 ASCII 문자열 코덱
+ *
+ * <p>16진수 인코딩/디코딩, ASCII 대소문자 변환, 공백 문자열 판별을 대량으로 처리합니다.</p>
+ *
+ * <p>JVM이 {@code --add-modules jdk.incubator.vector} 옵션으로 실행되었고 플랫폼이 128비트 이상의 벡터를 지원하면
+ * SIMD 구현을 사용하고, 그렇지 않으면 스칼라 구현을 사용합니다. 선택은 클래스 초기화 시 한 번만 이루어지며,
+ * 시스템 프로퍼티 {@value #DISABLE_VECTOR_PROPERTY}를 {@code true}로 지정하면 항상 스칼라 구현을 사용합니다.</p>
+ *
+ * <p><strong>사용 예제:</strong></p>
+ * <pre>{@code
+ * String hex = AsciiCodec.encodeHex(new byte[] {(byte) 0xCA, (byte) 0xFE});  // "cafe"
+ * byte[] bytes = AsciiCodec.decodeHex("CAFE");                              // {0xCA, 0xFE}
+ * String lower = AsciiCodec.toLowerCase("User_Name");                       // "user_name"
+ * boolean blank = AsciiCodec.isBlank(" \t\n");                              // true
+ * }</pre>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AsciiCodec {
+
+    /**
+     * 벡터 구현을 비활성화하는 시스템 프로퍼티 이름
+     */
+    public static final String DISABLE_VECTOR_PROPERTY = "example.codec.vector.disabled";
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL_CLASS = "com.example.util.VectorAsciiKernel";
+
+    /**
+     * 이 길이 미만의 문자열은 벡터 구현을 거치지 않고 바로 검사합니다.
+     */
+    private static final int BLANK_VECTOR_THRESHOLD = 64;
+
+    /**
+     * 공백 판별 시 문자열을 나누어 복사할 스레드별 버퍼 크기
+     */
+    private static final int BLANK_CHUNK_SIZE = 512;
+
+    private static final AsciiKernel KERNEL = selectKernel();
+
+    private static final ThreadLocal<char[]> BLANK_CHUNK = ThreadLocal.withInitial(() -> new char[BLANK_CHUNK_SIZE]);
+
+    private AsciiCodec() {
+    }
+
+    /**
+     * 바이트 배열을 소문자 16진수 문자열로 인코딩합니다.
+     *
+     * @param bytes 인코딩할 바이트 배열
+     * @return 16진수 문자열 (길이는 {@code bytes.length * 2})
+     * @throws IllegalArgumentException bytes가 null인 경우
+     */
+    public static String encodeHex(byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Input bytes cannot be null");
+        }
+
+        byte[] hex = new byte[bytes.length * 2];
+        KERNEL.encodeHex(bytes, hex);
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 16진수 문자열을 바이트 배열로 디코딩합니다. 대소문자를 구분하지 않습니다.
+     *
+     * @param hex 디코딩할 16진수 문자열
+     * @return 디코딩된 바이트 배열
+     * @throws IllegalArgumentException hex가 null이거나, 길이가 홀수이거나, 16진수가 아닌 문자가 포함된 경우
+     */
+    public static byte[] decodeHex(CharSequence hex) {
+        if (hex == null) {
+            throw new IllegalArgumentException("Hex string cannot be null");
+        }
+        if ((hex.length() & 1) != 0) {
+            throw new IllegalArgumentException("Hex string must have an even length: " + hex.length());
+        }
+
+        byte[] ascii = hex.toString().getBytes(StandardCharsets.ISO_8859_1);
+        byte[] bytes = new byte[ascii.length / 2];
+        KERNEL.decodeHex(ascii, bytes);
+        return bytes;
+    }
+
+    /**
+     * ASCII 대문자(A-Z)만 소문자로 변환합니다. 로케일의 영향을 받지 않습니다.
+     *
+     * @param str 변환할 문자열
+     * @return 변환된 문자열 (변경할 문자가 없으면 원본 그대로)
+     * @throws IllegalArgumentException str이 null인 경우
+     */
+    public static String toLowerCase(String str) {
+        if (str == null) {
+            throw new IllegalArgumentException("Input string cannot be null");
+        }
+
+        char[] chars = str.toCharArray();
+        return KERNEL.toLowerCase(chars) ? new String(chars) : str;
+    }
+
+    /**
+     * ASCII 소문자(a-z)만 대문자로 변환합니다. 로케일의 영향을 받지 않습니다.
+     *
+     * @param str 변환할 문자열
+     * @return 변환된 문자열 (변경할 문자가 없으면 원본 그대로)
+     * @throws IllegalArgumentException str이 null인 경우
+     */
+    public static String toUpperCase(String str) {
+        if (str == null) {
+            throw new IllegalArgumentException("Input string cannot be null");
+        }
+
+        char[] chars = str.toCharArray();
+        return KERNEL.toUpperCase(chars) ? new String(chars) : str;
+    }
+
+    /**
+     * 문자열이 null이거나 공백 문자({@code ' '} 이하)로만 이루어져 있는지 확인합니다.
+     *
+     * <p>{@link String#trim()}과 같은 기준을 사용하지만 복사본을 만들지 않습니다.</p>
+     *
+     * @param str 확인할 문자열
+     * @return null이거나 공백뿐이면 true, 그렇지 않으면 false
+     */
+    public static boolean isBlank(CharSequence str) {
+        if (str == null) {
+            return true;
+        }
+
+        int length = str.length();
+        if (length < BLANK_VECTOR_THRESHOLD || !(str instanceof String s)) {
+            for (int i = 0; i < length; i++) {
+                if (str.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        char[] chunk = BLANK_CHUNK.get();
+        for (int from = 0; from < length; from += BLANK_CHUNK_SIZE) {
+            int to = Math.min(from + BLANK_CHUNK_SIZE, length);
+            s.getChars(from, to, chunk, 0);
+            if (!KERNEL.isBlank(chunk, to - from)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 사용 중인 구현체 이름을 반환합니다.
+     *
+     * @return "scalar" 또는 "vector-{비트 수}"
+     */
+    public static String implementationName() {
+        return KERNEL.name();
+    }
+
+    /**
+     * 실행 환경에 맞는 구현체를 선택합니다.
+     *
+     * @return 벡터 구현을 사용할 수 있으면 벡터 구현, 그렇지 않으면 스칼라 구현
+     */
+    private static AsciiKernel selectKernel() {
+        if (Boolean.getBoolean(DISABLE_VECTOR_PROPERTY)
+                || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return new ScalarAsciiKernel();
+        }
+
+        try {
+            return (AsciiKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return new ScalarAsciiKernel();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.util;
+
+/**
+ * {@link AsciiCodec}의 실제 연산을 수행하는 구현체 계약
+ *
+ * <p>스칼라 구현과 Vector API 기반 구현이 있으며, 어떤 구현을 사용할지는
+ * {@link AsciiCodec} 클래스 초기화 시점에 한 번 결정됩니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ScalarAsciiKernel
+ * @see VectorAsciiKernel
+ */
+interface AsciiKernel {
+
+    /**
+     * 바이트 배열을 소문자 16진수 ASCII 바이트로 인코딩합니다.
+     *
+     * @param src 인코딩할 바이트 배열
+     * @param dst 결과를 기록할 배열 (길이는 {@code src.length * 2})
+     */
+    void encodeHex(byte[] src, byte[] dst);
+
+    /**
+     * 16진수 ASCII 바이트를 원래 바이트 배열로 디코딩합니다.
+     *
+     * @param src 16진수 ASCII 바이트 (길이는 {@code dst.length * 2})
+     * @param dst 결과를 기록할 배열
+     * @throws IllegalArgumentException 16진수가 아닌 문자가 포함된 경우
+     */
+    void decodeHex(byte[] src, byte[] dst);
+
+    /**
+     * ASCII 대문자(A-Z)를 소문자로 변환합니다. 그 외 문자는 그대로 둡니다.
+     *
+     * @param chars 변환할 문자 배열 (제자리에서 수정됨)
+     * @return 하나 이상의 문자가 변경되었으면 true
+     */
+    boolean toLowerCase(char[] chars);
+
+    /**
+     * ASCII 소문자(a-z)를 대문자로 변환합니다. 그 외 문자는 그대로 둡니다.
+     *
+     * @param chars 변환할 문자 배열 (제자리에서 수정됨)
+     * @return 하나 이상의 문자가 변경되었으면 true
+     */
+    boolean toUpperCase(char[] chars);
+
+    /**
+     * 지정한 범위의 문자가 모두 공백({@code ' '} 이하)인지 확인합니다.
+     *
+     * @param chars 확인할 문자 배열
+     * @param length 확인할 길이 (0부터)
+     * @return 모두 공백이면 true
+     */
+    boolean isBlank(char[] chars, int length);
+
+    /**
+     * 구현체 이름을 반환합니다.
+     *
+     * @return 구현체 이름 (예: "scalar", "vector-256")
+     */
+    String name();
+}
@@ -0,0 +1,247 @@
+package com.example.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 식별자 표기 방식 변환기
+ *
+ * <p>입력 문자열을 한 번만 순회하면서 단어 경계를 찾고, 결과를 곧바로 {@link StringBuilder}에 기록합니다.
+ * 정규식 분할이나 부분 문자열 생성이 없으므로 레코드마다 필드명을 변환하는 경로에서 사용할 수 있습니다.</p>
+ *
+ * <p><strong>단어 경계 규칙:</strong></p>
+ * <ul>
+ *   <li>{@code _}, {@code -}, 공백 문자({@code ' '} 이하, {@link #isBlank(CharSequence)}와 같은 기준)는
+ *       구분자로 취급되어 출력되지 않습니다. 맨 앞이나 맨 뒤의 구분자도 무시됩니다.</li>
+ *   <li>소문자나 숫자 다음의 대문자에서 새 단어가 시작됩니다. ({@code userName -> user, name})</li>
+ *   <li>연속된 대문자 뒤에 소문자가 오면 마지막 대문자부터 새 단어가 시작됩니다.
+ *       ({@code HTTPServer -> http, server})</li>
+ * </ul>
+ *
+ * <p>{@code cacheSize}를 지정하면 변환 결과를 최대 해당 개수만큼 메모이즈합니다.
+ * 필드명처럼 종류가 적고 반복되는 입력에 적합하며, 용량이 가득 차면 더 이상 새 항목을 저장하지 않습니다.
+ * Spring 빈으로 등록될 때는 {@code util.case-converter.cache-size} 프로퍼티(기본 {@value #DEFAULT_CACHE_SIZE})를 사용합니다.</p>
+ *
+ * <p><strong>사용 예제:</strong></p>
+ * <pre>{@code
+ * CaseConverter converter = new CaseConverter(256);
+ * String snake = converter.convert("userName", CaseFormat.SNAKE);        // "user_name"
+ * String camel = converter.convert("CREATED_AT", CaseFormat.CAMEL);      // "createdAt"
+ *
+ * StringBuilder out = new StringBuilder();
+ * converter.appendTo("http-server", CaseFormat.PASCAL, out);             // "HttpServer"
+ * }</pre>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CaseFormat
+ */
+@Component
+public class CaseConverter {
+
+    /**
+     * Spring 빈과 {@link StringUtils}가 사용하는 표기 방식별 기본 캐시 항목 수
+     */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    /**
+     * 스레드별로 재사용하는 빌더가 유지할 최대 용량
+     *
+     * <p>이보다 큰 입력을 변환한 뒤에는 빌더를 새로 만들어 메모리를 계속 붙잡지 않도록 합니다.</p>
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private final int cacheSize;
+    private final Map<CaseFormat, Map<String, String>> cache;
+
+    /**
+     * 메모이즈 캐시 없이 변환기를 생성합니다.
+     */
+    public CaseConverter() {
+        this(0);
+    }
+
+    /**
+     * 표기 방식별로 최대 {@code cacheSize}개의 결과를 캐시하는 변환기를 생성합니다.
+     *
+     * @param cacheSize 표기 방식별 최대 캐시 항목 수 (0이면 캐시 사용 안 함)
+     * @throws IllegalArgumentException cacheSize가 음수인 경우
+     */
+    @Autowired
+    public CaseConverter(@Value("${util.case-converter.cache-size:" + DEFAULT_CACHE_SIZE + "}") int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative: " + cacheSize);
+        }
+        this.cacheSize = cacheSize;
+        if (cacheSize > 0) {
+            this.cache = new EnumMap<>(CaseFormat.class);
+            for (CaseFormat format : CaseFormat.values()) {
+                this.cache.put(format, new ConcurrentHashMap<>());
+            }
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * 문자열이 null이거나 공백 문자로만 이루어져 있는지 확인합니다.
+     *
+     * <p>{@link String#trim()}과 같은 기준({@code ' '} 이하의 문자)을 사용하지만 복사본을 만들지 않습니다.</p>
+     *
+     * @param str 확인할 문자열
+     * @return null이거나 공백뿐이면 true, 그렇지 않으면 false
+     * @see AsciiCodec#isBlank(CharSequence)
+     */
+    public static boolean isBlank(CharSequence str) {
+        return AsciiCodec.isBlank(str);
+    }
+
+    /**
+     * 문자열을 지정한 표기 방식으로 변환합니다.
+     *
+     * @param str 변환할 문자열
+     * @param format 대상 표기 방식
+     * @return 변환된 문자열
+     * @throws IllegalArgumentException str이나 format이 null인 경우
+     */
+    public String convert(CharSequence str, CaseFormat format) {
+        if (str == null || format == null) {
+            throw new IllegalArgumentException("Input string and format cannot be null");
+        }
+
+        if (cache == null) {
+            return convertUncached(str, format);
+        }
+
+        String key = str.toString();
+        Map<String, String> formatCache = cache.get(format);
+        String cached = formatCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String converted = convertUncached(key, format);
+        if (formatCache.size() < cacheSize) {
+            formatCache.putIfAbsent(key, converted);
+        }
+        return converted;
+    }
+
+    /**
+     * 문자열을 지정한 표기 방식으로 변환하여 주어진 빌더 끝에 추가합니다.
+     *
+     * <p>호출자가 빌더를 재사용하면 변환 과정에서 추가 할당이 발생하지 않습니다. 캐시는 사용하지 않습니다.</p>
+     *
+     * @param str 변환할 문자열
+     * @param format 대상 표기 방식
+     * @param out 결과를 기록할 빌더
+     * @return 전달받은 빌더
+     * @throws IllegalArgumentException 인자 중 하나라도 null인 경우
+     */
+    public StringBuilder appendTo(CharSequence str, CaseFormat format, StringBuilder out) {
+        if (str == null || format == null || out == null) {
+            throw new IllegalArgumentException("Input string, format and output builder cannot be null");
+        }
+
+        int length = str.length();
+        int wordIndex = -1;
+        int charIndex = 0;
+        boolean inWord = false;
+        char prev = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+
+            if (isSeparator(c)) {
+                inWord = false;
+                continue;
+            }
+
+            if (!inWord || isHumpBoundary(prev, c, i + 1 < length ? str.charAt(i + 1) : 0)) {
+                wordIndex++;
+                charIndex = 0;
+                if (wordIndex > 0 && format.hasDelimiter()) {
+                    out.append(format.delimiter());
+                }
+            }
+
+            out.append(format.apply(c, wordIndex, charIndex));
+            charIndex++;
+            inWord = true;
+            prev = c;
+        }
+
+        return out;
+    }
+
+    /**
+     * 캐시에 보관 중인 항목 수를 반환합니다.
+     *
+     * @return 모든 표기 방식의 캐시 항목 수 합계
+     */
+    public int cachedEntryCount() {
+        if (cache == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Map<String, String> formatCache : cache.values()) {
+            count += formatCache.size();
+        }
+        return count;
+    }
+
+    /**
+     * 스레드별 빌더를 사용하여 변환합니다.
+     *
+     * @param str 변환할 문자열
+     * @param format 대상 표기 방식
+     * @return 변환된 문자열
+     */
+    private String convertUncached(CharSequence str, CaseFormat format) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        String result = appendTo(str, format, buffer).toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * 단어 구분자인지 확인합니다.
+     *
+     * <p>공백 문자는 {@link #isBlank(CharSequence)}와 같이 {@code ' '} 이하의 문자로 정의합니다.</p>
+     *
+     * @param c 확인할 문자
+     * @return 구분자이면 true
+     */
+    private static boolean isSeparator(char c) {
+        return c == '_' || c == '-' || c <= ' ';
+    }
+
+    /**
+     * 구분자 없이 대소문자 변화만으로 새 단어가 시작되는지 확인합니다.
+     *
+     * @param prev 직전 문자 (같은 단어에 속함)
+     * @param c 현재 문자
+     * @param next 다음 문자 (없으면 0)
+     * @return 현재 문자에서 새 단어가 시작되면 true
+     */
+    private static boolean isHumpBoundary(char prev, char c, char next) {
+        if (!Character.isUpperCase(c)) {
+            return false;
+        }
+        if (Character.isLowerCase(prev) || Character.isDigit(prev)) {
+            return true;
+        }
+        return Character.isUpperCase(prev) && Character.isLowerCase(next);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.util;
+
+/**
+ * 식별자 표기 방식
+ *
+ * <p>{@link CaseConverter}가 지원하는 대상 표기 방식을 정의합니다.</p>
+ *
+ * <pre>
+ * CAMEL    -> helloWorld
+ * PASCAL   -> HelloWorld
+ * SNAKE    -> hello_world
+ * KEBAB    -> hello-world
+ * CONSTANT -> HELLO_WORLD
+ * </pre>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CaseConverter
+ */
+public enum CaseFormat {
+
+    /**
+     * 카멜 케이스 (helloWorld)
+     */
+    CAMEL((char) 0),
+
+    /**
+     * 파스칼 케이스 (HelloWorld)
+     */
+    PASCAL((char) 0),
+
+    /**
+     * 스네이크 케이스 (hello_world)
+     */
+    SNAKE('_'),
+
+    /**
+     * 케밥 케이스 (hello-world)
+     */
+    KEBAB('-'),
+
+    /**
+     * 상수 케이스 (HELLO_WORLD)
+     */
+    CONSTANT('_');
+
+    private final char delimiter;
+
+    CaseFormat(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * 단어 사이에 삽입할 구분자가 있는지 확인합니다.
+     *
+     * @return 구분자가 있으면 true
+     */
+    boolean hasDelimiter() {
+        return delimiter != 0;
+    }
+
+    /**
+     * 단어 사이에 삽입할 구분자를 반환합니다.
+     *
+     * @return 구분자 문자
+     */
+    char delimiter() {
+        return delimiter;
+    }
+
+    /**
+     * 단어 내 위치에 맞게 문자의 대소문자를 변환합니다.
+     *
+     * @param c 변환할 문자
+     * @param wordIndex 식별자 내 단어 순번 (0부터 시작)
+     * @param charIndex 단어 내 문자 순번 (0부터 시작)
+     * @return 변환된 문자
+     */
+    char apply(char c, int wordIndex, int charIndex) {
+        switch (this) {
+            case CAMEL:
+                return charIndex == 0 && wordIndex > 0 ? Character.toUpperCase(c) : Character.toLowerCase(c);
+            case PASCAL:
+                return charIndex == 0 ? Character.toUpperCase(c) : Character.toLowerCase(c);
+            case CONSTANT:
+                return Character.toUpperCase(c);
+            default:
+                return Character.toLowerCase(c);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.util;
+
+/**
+ * 한 번에 한 문자씩 처리하는 {@link AsciiKernel} 구현체
+ *
+ * <p>Vector API를 사용할 수 없는 환경의 기본 구현이며, {@link VectorAsciiKernel}이
+ * 벡터 폭으로 나누어 떨어지지 않는 나머지 구간을 처리할 때도 사용합니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ScalarAsciiKernel implements AsciiKernel {
+
+    private static final byte[] HEX_DIGITS = {
+        '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    @Override
+    public void encodeHex(byte[] src, byte[] dst) {
+        encodeHex(src, 0, src.length, dst);
+    }
+
+    @Override
+    public void decodeHex(byte[] src, byte[] dst) {
+        decodeHex(src, 0, dst.length, dst);
+    }
+
+    @Override
+    public boolean toLowerCase(char[] chars) {
+        return toLowerCase(chars, 0, chars.length);
+    }
+
+    @Override
+    public boolean toUpperCase(char[] chars) {
+        return toUpperCase(chars, 0, chars.length);
+    }
+
+    @Override
+    public boolean isBlank(char[] chars, int length) {
+        return isBlank(chars, 0, length);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    /**
+     * {@code src[from, to)} 구간을 16진수로 인코딩하여 {@code dst[from * 2]}부터 기록합니다.
+     *
+     * @param src 인코딩할 바이트 배열
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (제외)
+     * @param dst 결과를 기록할 배열
+     */
+    static void encodeHex(byte[] src, int from, int to, byte[] dst) {
+        for (int i = from; i < to; i++) {
+            int b = src[i];
+            dst[2 * i] = HEX_DIGITS[(b >>> 4) & 0x0F];
+            dst[2 * i + 1] = HEX_DIGITS[b & 0x0F];
+        }
+    }
+
+    /**
+     * {@code dst[from, to)} 구간을 {@code src[from * 2]}부터 읽은 16진수로 채웁니다.
+     *
+     * @param src 16진수 ASCII 바이트
+     * @param from 결과 시작 위치 (포함)
+     * @param to 결과 끝 위치 (제외)
+     * @param dst 결과를 기록할 배열
+     * @throws IllegalArgumentException 16진수가 아닌 문자가 포함된 경우
+     */
+    static void decodeHex(byte[] src, int from, int to, byte[] dst) {
+        for (int i = from; i < to; i++) {
+            int hi = digit(src, 2 * i);
+            int lo = digit(src, 2 * i + 1);
+            dst[i] = (byte) ((hi << 4) | lo);
+        }
+    }
+
+    /**
+     * {@code chars[from, to)} 구간의 ASCII 대문자를 소문자로 변환합니다.
+     *
+     * @param chars 변환할 문자 배열
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (제외)
+     * @return 하나 이상의 문자가 변경되었으면 true
+     */
+    static boolean toLowerCase(char[] chars, int from, int to) {
+        boolean changed = false;
+        for (int i = from; i < to; i++) {
+            char c = chars[i];
+            if (c >= 'A' && c <= 'Z') {
+                chars[i] = (char) (c + ('a' - 'A'));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * {@code chars[from, to)} 구간의 ASCII 소문자를 대문자로 변환합니다.
+     *
+     * @param chars 변환할 문자 배열
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (제외)
+     * @return 하나 이상의 문자가 변경되었으면 true
+     */
+    static boolean toUpperCase(char[] chars, int from, int to) {
+        boolean changed = false;
+        for (int i = from; i < to; i++) {
+            char c = chars[i];
+            if (c >= 'a' && c <= 'z') {
+                chars[i] = (char) (c - ('a' - 'A'));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * {@code chars[from, to)} 구간이 모두 공백({@code ' '} 이하)인지 확인합니다.
+     *
+     * @param chars 확인할 문자 배열
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (제외)
+     * @return 모두 공백이면 true
+     */
+    static boolean isBlank(char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (chars[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 16진수 문자 하나를 값으로 변환합니다.
+     *
+     * @param src 16진수 ASCII 바이트
+     * @param index 변환할 위치
+     * @return 0~15 사이의 값
+     * @throws IllegalArgumentException 16진수가 아닌 문자인 경우
+     */
+    private static int digit(byte[] src, int index) {
+        int c = src[index];
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        int lower = c | 0x20;
+        if (lower >= 'a' && lower <= 'f') {
+            return lower - 'a' + 10;
+        }
+        throw new IllegalArgumentException("Invalid hex character at index " + index);
+    }
+}
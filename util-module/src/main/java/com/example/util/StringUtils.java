@@ -1,5 +1,6 @@
 package com.example.util;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -7,6 +8,9 @@ import org.springframework.stereotype.Component;
  * 
  * <p>이 클래스는 문자열 처리와 관련된 다양한 유틸리티 메서드를 제공합니다.</p>
  * 
+ * <p>표기 방식 변환은 {@link CaseConverter}에 위임합니다. Spring 빈으로 사용하면 설정으로 캐시 크기를 지정한
+ * {@code CaseConverter} 빈이 주입되고, 직접 생성하면 기본 캐시 크기의 공유 변환기를 사용합니다.</p>
+ * 
  * @author Spring Multi Module Team
  * @version 1.0.0
  * @since 1.0.0
@@ -14,15 +18,42 @@ import org.springframework.stereotype.Component;
 @Component
 public class StringUtils {
     
+    private static final CaseConverter DEFAULT_CASE_CONVERTER = new CaseConverter(CaseConverter.DEFAULT_CACHE_SIZE);
+    
+    private final CaseConverter caseConverter;
+    
+    /**
+     * 기본 캐시 크기의 공유 변환기를 사용하는 StringUtils를 생성합니다.
+     */
+    public StringUtils() {
+        this(DEFAULT_CASE_CONVERTER);
+    }
+    
+    /**
+     * 주어진 변환기를 사용하는 StringUtils를 생성합니다.
+     * 
+     * @param caseConverter 표기 방식 변환기
+     * @throws IllegalArgumentException caseConverter가 null인 경우
+     */
+    @Autowired
+    public StringUtils(CaseConverter caseConverter) {
+        if (caseConverter == null) {
+            throw new IllegalArgumentException("Case converter cannot be null");
+        }
+        this.caseConverter = caseConverter;
+    }
+    
     /**
      * 문자열이 비어있는지 확인합니다.
      * 
+     * <p>공백 문자로만 이루어진 문자열도 비어있는 것으로 간주합니다.</p>
+     * 
      * @param str 확인할 문자열
      * @return 문자열이 null이거나 빈 문자열이면 true, 그렇지 않으면 false
      * @see #isNotEmpty(String)
      */
     public boolean isEmpty(String str) {
-        return str == null || str.trim().isEmpty();
+        return AsciiCodec.isBlank(str);
     }
     
     /**
@@ -43,37 +74,86 @@ public class StringUtils {
      * <pre>
      * toCamelCase("hello_world") -> "helloWorld"
      * toCamelCase("hello-world") -> "helloWorld"
+     * toCamelCase("HelloWorld")  -> "helloWorld"
      * </pre>
      * 
+     * <p>구분자와 단어 경계는 {@link CaseConverter}의 규칙을 따릅니다. 따라서 이전 구현과 달리
+     * 공백도 구분자로 취급하고({@code "hello world" -> "helloWorld"}), 맨 앞의 구분자는 무시하며
+     * ({@code "_leading" -> "leading"}), 기존 대소문자 경계를 유지합니다({@code "helloWorld" -> "helloWorld"}).</p>
+     * 
      * @param str 변환할 문자열
      * @return 카멜 케이스로 변환된 문자열
      * @throws IllegalArgumentException str이 null인 경우
+     * @see CaseConverter
      */
     public String toCamelCase(String str) {
-        if (str == null) {
-            throw new IllegalArgumentException("Input string cannot be null");
-        }
-        
-        String[] parts = str.split("[_\\-]");
-        StringBuilder camelCase = new StringBuilder(parts[0].toLowerCase());
-        
-        for (int i = 1; i < parts.length; i++) {
-            camelCase.append(capitalize(parts[i]));
-        }
-        
-        return camelCase.toString();
+        return convertCase(str, CaseFormat.CAMEL);
+    }
+    
+    /**
+     * 문자열을 파스칼 케이스로 변환합니다.
+     * 
+     * <p>예제: {@code toPascalCase("hello_world") -> "HelloWorld"}</p>
+     * 
+     * @param str 변환할 문자열
+     * @return 파스칼 케이스로 변환된 문자열
+     * @throws IllegalArgumentException str이 null인 경우
+     */
+    public String toPascalCase(String str) {
+        return convertCase(str, CaseFormat.PASCAL);
     }
     
     /**
-     * 문자열의 첫 글자를 대문자로 변환합니다.
+     * 문자열을 스네이크 케이스로 변환합니다.
+     * 
+     * <p>예제: {@code toSnakeCase("helloWorld") -> "hello_world"}</p>
+     * 
+     * @param str 변환할 문자열
+     * @return 스네이크 케이스로 변환된 문자열
+     * @throws IllegalArgumentException str이 null인 경우
+     */
+    public String toSnakeCase(String str) {
+        return convertCase(str, CaseFormat.SNAKE);
+    }
+    
+    /**
+     * 문자열을 케밥 케이스로 변환합니다.
+     * 
+     * <p>예제: {@code toKebabCase("helloWorld") -> "hello-world"}</p>
      * 
      * @param str 변환할 문자열
-     * @return 첫 글자가 대문자로 변환된 문자열
+     * @return 케밥 케이스로 변환된 문자열
+     * @throws IllegalArgumentException str이 null인 경우
      */
-    private String capitalize(String str) {
-        if (isEmpty(str)) {
-            return str;
+    public String toKebabCase(String str) {
+        return convertCase(str, CaseFormat.KEBAB);
+    }
+    
+    /**
+     * 문자열을 상수 케이스로 변환합니다.
+     * 
+     * <p>예제: {@code toConstantCase("helloWorld") -> "HELLO_WORLD"}</p>
+     * 
+     * @param str 변환할 문자열
+     * @return 상수 케이스로 변환된 문자열
+     * @throws IllegalArgumentException str이 null인 경우
+     */
+    public String toConstantCase(String str) {
+        return convertCase(str, CaseFormat.CONSTANT);
+    }
+    
+    /**
+     * 문자열을 지정한 표기 방식으로 변환합니다.
+     * 
+     * @param str 변환할 문자열
+     * @param format 대상 표기 방식
+     * @return 변환된 문자열
+     * @throws IllegalArgumentException str이 null인 경우
+     */
+    private String convertCase(String str, CaseFormat format) {
+        if (str == null) {
+            throw new IllegalArgumentException("Input string cannot be null");
         }
-        return str.substring(0, 1).toUpperCase() + str.substring(1).toLowerCase();
+        return caseConverter.convert(str, format);
     }
 }
@@ -0,0 +1,32 @@
+package com.example.util;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * util-module의 AOT 런타임 힌트
+ *
+ * <p>Spring AOT 처리 및 네이티브 이미지 빌드 시 util-module 컴포넌트와
+ * {@link AsciiCodec}가 리플렉션으로 로드하는 벡터 구현체 정보를 등록합니다.
+ * {@code META-INF/spring/aot.factories}를 통해 자동으로 적용됩니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UtilRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> component : new Class<?>[] {StringUtils.class, DateTimeUtils.class, CaseConverter.class}) {
+            hints.reflection().registerType(component,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.reflection().registerType(TypeReference.of("com.example.util.VectorAsciiKernel"),
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API({@code jdk.incubator.vector})를 사용하는 {@link AsciiKernel} 구현체
+ *
+ * <p>플랫폼이 선호하는 벡터 폭 단위로 데이터를 처리하고, 남은 구간은 {@link ScalarAsciiKernel}에 위임합니다.
+ * 이 클래스는 {@link AsciiCodec}가 리플렉션으로만 로드하므로, 모듈이 없는 런타임에서도 링크 오류가 발생하지 않습니다.</p>
+ *
+ * <p><strong>16진수 인코딩:</strong> 각 바이트를 상위/하위 니블 벡터로 나눈 뒤 ASCII로 변환하고,
+ * 두 입력을 받는 {@code rearrange}로 교차 배치하여 저장합니다. 디코딩은 그 역순입니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class VectorAsciiKernel implements AsciiKernel {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> CHARS = ShortVector.SPECIES_PREFERRED;
+
+    /**
+     * 스칼라 처리보다 이득을 보기 위한 최소 벡터 폭 (비트)
+     */
+    private static final int MIN_VECTOR_BITS = 128;
+
+    private final VectorShuffle<Byte> interleaveLow;
+    private final VectorShuffle<Byte> interleaveHigh;
+    private final VectorShuffle<Byte> evenLanes;
+    private final VectorShuffle<Byte> oddLanes;
+
+    /**
+     * 벡터 폭에 맞는 셔플을 미리 계산합니다.
+     *
+     * @throws UnsupportedOperationException 플랫폼의 벡터 폭이 너무 작은 경우
+     */
+    VectorAsciiKernel() {
+        if (BYTES.vectorBitSize() < MIN_VECTOR_BITS) {
+            throw new UnsupportedOperationException("Preferred vector size too small: " + BYTES.vectorBitSize());
+        }
+
+        int lanes = BYTES.length();
+        int half = lanes / 2;
+        int[] low = new int[lanes];
+        int[] high = new int[lanes];
+        int[] even = new int[lanes];
+        int[] odd = new int[lanes];
+
+        // 음수 인덱스는 rearrange(shuffle, other)에서 두 번째 벡터의 (index + lanes) 레인을 가리킨다.
+        for (int j = 0; j < lanes; j++) {
+            boolean fromSecond = (j & 1) == 1;
+            low[j] = j / 2 - (fromSecond ? lanes : 0);
+            high[j] = half + j / 2 - (fromSecond ? lanes : 0);
+            even[j] = j < half ? 2 * j : 2 * j - 2 * lanes;
+            odd[j] = j < half ? 2 * j + 1 : 2 * j + 1 - 2 * lanes;
+        }
+
+        this.interleaveLow = VectorShuffle.fromArray(BYTES, low, 0);
+        this.interleaveHigh = VectorShuffle.fromArray(BYTES, high, 0);
+        this.evenLanes = VectorShuffle.fromArray(BYTES, even, 0);
+        this.oddLanes = VectorShuffle.fromArray(BYTES, odd, 0);
+    }
+
+    @Override
+    public void encodeHex(byte[] src, byte[] dst) {
+        int lanes = BYTES.length();
+        int bound = BYTES.loopBound(src.length);
+        int i = 0;
+
+        for (; i < bound; i += lanes) {
+            ByteVector v = ByteVector.fromArray(BYTES, src, i);
+            ByteVector hi = toHexDigits(v.lanewise(VectorOperators.LSHR, 4).and((byte) 0x0F));
+            ByteVector lo = toHexDigits(v.and((byte) 0x0F));
+            hi.rearrange(interleaveLow, lo).intoArray(dst, 2 * i);
+            hi.rearrange(interleaveHigh, lo).intoArray(dst, 2 * i + lanes);
+        }
+
+        ScalarAsciiKernel.encodeHex(src, i, src.length, dst);
+    }
+
+    @Override
+    public void decodeHex(byte[] src, byte[] dst) {
+        int lanes = BYTES.length();
+        int bound = BYTES.loopBound(dst.length);
+        int i = 0;
+
+        for (; i < bound; i += lanes) {
+            ByteVector first = ByteVector.fromArray(BYTES, src, 2 * i);
+            ByteVector second = ByteVector.fromArray(BYTES, src, 2 * i + lanes);
+            ByteVector hiChars = first.rearrange(evenLanes, second);
+            ByteVector loChars = first.rearrange(oddLanes, second);
+
+            if (!isHexDigit(hiChars).and(isHexDigit(loChars)).allTrue()) {
+                // 정확한 오류 위치를 보고하도록 스칼라 구현에 맡긴다.
+                ScalarAsciiKernel.decodeHex(src, i, i + lanes, dst);
+            }
+
+            fromHexDigits(hiChars).lanewise(VectorOperators.LSHL, 4)
+                .or(fromHexDigits(loChars))
+                .intoArray(dst, i);
+        }
+
+        ScalarAsciiKernel.decodeHex(src, i, dst.length, dst);
+    }
+
+    @Override
+    public boolean toLowerCase(char[] chars) {
+        return shiftRange(chars, (short) 'A', (short) 'Z', (short) ('a' - 'A'))
+            | ScalarAsciiKernel.toLowerCase(chars, CHARS.loopBound(chars.length), chars.length);
+    }
+
+    @Override
+    public boolean toUpperCase(char[] chars) {
+        return shiftRange(chars, (short) 'a', (short) 'z', (short) ('A' - 'a'))
+            | ScalarAsciiKernel.toUpperCase(chars, CHARS.loopBound(chars.length), chars.length);
+    }
+
+    @Override
+    public boolean isBlank(char[] chars, int length) {
+        int lanes = CHARS.length();
+        int bound = CHARS.loopBound(length);
+
+        for (int i = 0; i < bound; i += lanes) {
+            ShortVector v = ShortVector.fromCharArray(CHARS, chars, i);
+            if (v.compare(VectorOperators.UNSIGNED_GT, (short) ' ').anyTrue()) {
+                return false;
+            }
+        }
+
+        return ScalarAsciiKernel.isBlank(chars, bound, length);
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + BYTES.vectorBitSize();
+    }
+
+    /**
+     * 벡터 폭 단위 구간에서 {@code [min, max]} 범위의 문자에 {@code delta}를 더합니다.
+     *
+     * @param chars 변환할 문자 배열
+     * @param min 범위 하한 (포함)
+     * @param max 범위 상한 (포함)
+     * @param delta 더할 값
+     * @return 하나 이상의 문자가 변경되었으면 true
+     */
+    private static boolean shiftRange(char[] chars, short min, short max, short delta) {
+        int lanes = CHARS.length();
+        int bound = CHARS.loopBound(chars.length);
+        boolean changed = false;
+
+        for (int i = 0; i < bound; i += lanes) {
+            ShortVector v = ShortVector.fromCharArray(CHARS, chars, i);
+            VectorMask<Short> inRange = v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max));
+            if (inRange.anyTrue()) {
+                v.add(delta, inRange).intoCharArray(chars, i);
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * 0~15 값을 소문자 16진수 ASCII로 변환합니다.
+     *
+     * @param nibbles 니블 벡터
+     * @return ASCII 문자 벡터
+     */
+    private static ByteVector toHexDigits(ByteVector nibbles) {
+        // 10 이상이면 '0' + n 에서 'a' + (n - 10)으로 보정한다.
+        return nibbles.add((byte) '0')
+            .add((byte) ('a' - '0' - 10), nibbles.compare(VectorOperators.GT, (byte) 9));
+    }
+
+    /**
+     * 각 레인이 16진수 문자인지 확인합니다.
+     *
+     * @param chars ASCII 문자 벡터
+     * @return 16진수 문자인 레인의 마스크
+     */
+    private static VectorMask<Byte> isHexDigit(ByteVector chars) {
+        ByteVector lower = chars.or((byte) 0x20);
+        return chars.compare(VectorOperators.GE, (byte) '0').and(chars.compare(VectorOperators.LE, (byte) '9'))
+            .or(lower.compare(VectorOperators.GE, (byte) 'a').and(lower.compare(VectorOperators.LE, (byte) 'f')));
+    }
+
+    /**
+     * 16진수 ASCII 문자를 0~15 값으로 변환합니다. 입력은 {@link #isHexDigit(ByteVector)}로 검증된 상태여야 합니다.
+     *
+     * @param chars 16진수 문자 벡터
+     * @return 니블 벡터
+     */
+    private static ByteVector fromHexDigits(ByteVector chars) {
+        VectorMask<Byte> digit = chars.compare(VectorOperators.LE, (byte) '9');
+        return chars.or((byte) 0x20).sub((byte) ('a' - 10))
+            .blend(chars.sub((byte) '0'), digit);
+    }
+}
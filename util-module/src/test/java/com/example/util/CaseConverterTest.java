@@ -0,0 +1,140 @@
+package com.example.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CaseConverter 테스트")
+class CaseConverterTest {
+
+    private final CaseConverter converter = new CaseConverter();
+
+    static Stream<Arguments> conversions() {
+        return Stream.of(
+            // 입력, CAMEL, PASCAL, SNAKE, KEBAB, CONSTANT
+            Arguments.of("hello_world", "helloWorld", "HelloWorld", "hello_world", "hello-world", "HELLO_WORLD"),
+            Arguments.of("hello-world", "helloWorld", "HelloWorld", "hello_world", "hello-world", "HELLO_WORLD"),
+            Arguments.of("hello world", "helloWorld", "HelloWorld", "hello_world", "hello-world", "HELLO_WORLD"),
+            Arguments.of("helloWorld", "helloWorld", "HelloWorld", "hello_world", "hello-world", "HELLO_WORLD"),
+            Arguments.of("HelloWorld", "helloWorld", "HelloWorld", "hello_world", "hello-world", "HELLO_WORLD"),
+            Arguments.of("HELLO_WORLD", "helloWorld", "HelloWorld", "hello_world", "hello-world", "HELLO_WORLD"),
+            Arguments.of("_leading", "leading", "Leading", "leading", "leading", "LEADING"),
+            Arguments.of("trailing__", "trailing", "Trailing", "trailing", "trailing", "TRAILING"),
+            Arguments.of("HTTPServer", "httpServer", "HttpServer", "http_server", "http-server", "HTTP_SERVER"),
+            Arguments.of("userID", "userId", "UserId", "user_id", "user-id", "USER_ID"),
+            Arguments.of("version2Name", "version2Name", "Version2Name", "version2_name", "version2-name", "VERSION2_NAME"),
+            Arguments.of("HTTP2Server", "http2Server", "Http2Server", "http2_server", "http2-server", "HTTP2_SERVER"),
+            Arguments.of("a\tb\nc", "aBC", "ABC", "a_b_c", "a-b-c", "A_B_C"),
+            Arguments.of("", "", "", "", "", ""),
+            Arguments.of("__--  ", "", "", "", "", "")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("conversions")
+    @DisplayName("모든 표기 방식에서 구분자와 대소문자 경계로 단어를 나눈다")
+    void convert_AllFormats_SplitsWordsOnSeparatorsAndHumps(String input, String camel, String pascal,
+                                                             String snake, String kebab, String constant) {
+        // when & then
+        assertEquals(camel, converter.convert(input, CaseFormat.CAMEL));
+        assertEquals(pascal, converter.convert(input, CaseFormat.PASCAL));
+        assertEquals(snake, converter.convert(input, CaseFormat.SNAKE));
+        assertEquals(kebab, converter.convert(input, CaseFormat.KEBAB));
+        assertEquals(constant, converter.convert(input, CaseFormat.CONSTANT));
+    }
+
+    @Test
+    @DisplayName("appendTo는 기존 빌더 내용 뒤에 변환 결과를 추가한다")
+    void appendTo_ExistingBuilder_AppendsAfterContent() {
+        // given
+        StringBuilder out = new StringBuilder("select ");
+
+        // when
+        StringBuilder result = converter.appendTo("createdAt", CaseFormat.SNAKE, out);
+        converter.appendTo("user_name", CaseFormat.CAMEL, out.append(", "));
+
+        // then
+        assertSame(out, result);
+        assertEquals("select created_at, userName", out.toString());
+    }
+
+    @Test
+    @DisplayName("캐시 항목 수는 표기 방식별 cacheSize를 넘지 않는다")
+    void convert_MoreKeysThanCacheSize_CacheStaysBounded() {
+        // given
+        int cacheSize = 8;
+        CaseConverter cached = new CaseConverter(cacheSize);
+
+        // when
+        for (int i = 0; i < cacheSize * 4; i++) {
+            for (CaseFormat format : CaseFormat.values()) {
+                assertEquals(converter.convert("fieldName" + i, format), cached.convert("fieldName" + i, format));
+            }
+        }
+
+        // then
+        assertEquals(cacheSize * CaseFormat.values().length, cached.cachedEntryCount());
+    }
+
+    @Test
+    @DisplayName("같은 입력을 반복 변환하면 캐시된 결과를 반환한다")
+    void convert_RepeatedInput_ReturnsCachedInstance() {
+        // given
+        CaseConverter cached = new CaseConverter(4);
+
+        // when
+        String first = cached.convert("createdAt", CaseFormat.SNAKE);
+        String second = cached.convert(new StringBuilder("createdAt"), CaseFormat.SNAKE);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, cached.cachedEntryCount());
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 0이면 결과를 저장하지 않는다")
+    void convert_ZeroCacheSize_StoresNothing() {
+        // when
+        converter.convert("createdAt", CaseFormat.SNAKE);
+
+        // then
+        assertEquals(0, converter.cachedEntryCount());
+    }
+
+    @Test
+    @DisplayName("음수 캐시 크기는 예외를 던진다")
+    void constructor_NegativeCacheSize_ThrowsException() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new CaseConverter(-1));
+    }
+
+    @Test
+    @DisplayName("null 입력이나 표기 방식은 예외를 던진다")
+    void convert_NullArguments_ThrowsException() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(null, CaseFormat.CAMEL));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("name", null));
+        assertThrows(IllegalArgumentException.class, () -> converter.appendTo("name", CaseFormat.CAMEL, null));
+    }
+
+    @Test
+    @DisplayName("공백 판별은 ' ' 이하의 문자만 공백으로 본다")
+    void isBlank_WhitespaceAndText_ReturnsExpected() {
+        // when & then
+        assertTrue(CaseConverter.isBlank(null));
+        assertTrue(CaseConverter.isBlank(""));
+        assertTrue(CaseConverter.isBlank(" \t\r\n"));
+        assertFalse(CaseConverter.isBlank("  a  "));
+        assertFalse(CaseConverter.isBlank("\u00A0"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StringUtils 테스트")
+class StringUtilsTest {
+
+    private final StringUtils stringUtils = new StringUtils();
+
+    @Test
+    @DisplayName("null, 빈 문자열, 공백 문자열은 비어 있다")
+    void isEmpty_NullOrBlank_ReturnsTrue() {
+        // when & then
+        assertTrue(stringUtils.isEmpty(null));
+        assertTrue(stringUtils.isEmpty(""));
+        assertTrue(stringUtils.isEmpty(" \t\n"));
+        assertFalse(stringUtils.isNotEmpty("   "));
+    }
+
+    @Test
+    @DisplayName("문자가 있으면 비어 있지 않다")
+    void isEmpty_Text_ReturnsFalse() {
+        // when & then
+        assertFalse(stringUtils.isEmpty(" hello "));
+        assertTrue(stringUtils.isNotEmpty("hello"));
+    }
+
+    @Test
+    @DisplayName("밑줄과 하이픈 구분 문자열을 카멜 케이스로 변환")
+    void toCamelCase_UnderscoreAndHyphen_ReturnsCamelCase() {
+        // when & then
+        assertEquals("helloWorld", stringUtils.toCamelCase("hello_world"));
+        assertEquals("helloWorld", stringUtils.toCamelCase("hello-world"));
+        assertEquals("helloWorld", stringUtils.toCamelCase("HelloWorld"));
+    }
+
+    @Test
+    @DisplayName("이미 카멜 케이스인 문자열은 단어 경계를 유지한다")
+    void toCamelCase_CamelCaseInput_KeepsHumps() {
+        // given
+        String input = "helloWorld";
+
+        // when
+        String result = stringUtils.toCamelCase(input);
+
+        // then
+        assertEquals("helloWorld", result);
+    }
+
+    @Test
+    @DisplayName("공백도 구분자로 취급한다")
+    void toCamelCase_SpaceSeparated_ReturnsCamelCase() {
+        // given
+        String input = "hello world";
+
+        // when
+        String result = stringUtils.toCamelCase(input);
+
+        // then
+        assertEquals("helloWorld", result);
+    }
+
+    @Test
+    @DisplayName("맨 앞의 구분자는 무시한다")
+    void toCamelCase_LeadingSeparator_IgnoresSeparator() {
+        // given
+        String input = "_leading";
+
+        // when
+        String result = stringUtils.toCamelCase(input);
+
+        // then
+        assertEquals("leading", result);
+    }
+
+    @Test
+    @DisplayName("약어와 숫자가 포함된 문자열도 단어 경계대로 변환")
+    void toCamelCase_AcronymsAndDigits_SplitsWords() {
+        // when & then
+        assertEquals("httpServer", stringUtils.toCamelCase("HTTPServer"));
+        assertEquals("userId", stringUtils.toCamelCase("userID"));
+        assertEquals("version2Name", stringUtils.toCamelCase("version2_name"));
+    }
+
+    @Test
+    @DisplayName("다른 표기 방식으로 변환")
+    void toOtherFormats_CamelCaseInput_ReturnsConvertedString() {
+        // given
+        String input = "createdAt";
+
+        // when & then
+        assertEquals("CreatedAt", stringUtils.toPascalCase(input));
+        assertEquals("created_at", stringUtils.toSnakeCase(input));
+        assertEquals("created-at", stringUtils.toKebabCase(input));
+        assertEquals("CREATED_AT", stringUtils.toConstantCase(input));
+    }
+
+    @Test
+    @DisplayName("주입한 변환기로 변환한다")
+    void toSnakeCase_InjectedConverter_UsesConverterCache() {
+        // given
+        CaseConverter converter = new CaseConverter(4);
+        StringUtils utils = new StringUtils(converter);
+
+        // when
+        String result = utils.toSnakeCase("createdAt");
+
+        // then
+        assertEquals("created_at", result);
+        assertEquals(1, converter.cachedEntryCount());
+    }
+
+    @Test
+    @DisplayName("null 변환기는 예외를 던진다")
+    void constructor_NullConverter_ThrowsException() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new StringUtils(null));
+    }
+
+    @Test
+    @DisplayName("null 입력 시 예외 발생")
+    void toCamelCase_NullInput_ThrowsException() {
+        // given
+        String input = null;
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> {
+            stringUtils.toCamelCase(input);
+        });
+    }
+}
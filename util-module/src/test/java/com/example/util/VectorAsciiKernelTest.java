@@ -0,0 +1,172 @@
+package com.example.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@link VectorAsciiKernel}이 모든 길이에서 {@link ScalarAsciiKernel}과 같은 결과를 내는지 검증합니다.
+ *
+ * <p>벡터 폭의 배수와 나머지 구간이 모두 포함되도록 0부터 {@value #MAX_LENGTH}까지의 길이를 검사합니다.
+ * 플랫폼이 128비트 이상의 벡터를 지원하지 않으면 건너뜁니다.</p>
+ *
+ * @author Spring Multi Module Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("VectorAsciiKernel 테스트")
+class VectorAsciiKernelTest {
+
+    private static final int MAX_LENGTH = 300;
+
+    private static final ScalarAsciiKernel SCALAR = new ScalarAsciiKernel();
+
+    private static VectorAsciiKernel vector;
+
+    private final Random random = new Random(20261019L);
+
+    @BeforeAll
+    static void createVectorKernel() {
+        try {
+            vector = new VectorAsciiKernel();
+        } catch (UnsupportedOperationException e) {
+            vector = null;
+        }
+        assumeTrue(vector != null, "Preferred vector size is below 128 bits");
+    }
+
+    @Test
+    @DisplayName("16진수 인코딩 결과가 스칼라 구현과 같다")
+    void encodeHex_AllLengths_MatchesScalar() {
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            byte[] src = new byte[length];
+            random.nextBytes(src);
+
+            byte[] expected = new byte[length * 2];
+            byte[] actual = new byte[length * 2];
+            SCALAR.encodeHex(src, expected);
+            vector.encodeHex(src, actual);
+
+            assertArrayEquals(expected, actual, "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("대소문자가 섞인 16진수 디코딩 결과가 스칼라 구현과 같다")
+    void decodeHex_MixedCase_MatchesScalar() {
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            byte[] original = new byte[length];
+            random.nextBytes(original);
+            byte[] hex = new byte[length * 2];
+            SCALAR.encodeHex(original, hex);
+            for (int i = 0; i < hex.length; i++) {
+                if (hex[i] >= 'a' && random.nextBoolean()) {
+                    hex[i] -= 'a' - 'A';
+                }
+            }
+
+            byte[] expected = new byte[length];
+            byte[] actual = new byte[length];
+            SCALAR.decodeHex(hex, expected);
+            vector.decodeHex(hex, actual);
+
+            assertArrayEquals(original, expected, "length " + length);
+            assertArrayEquals(expected, actual, "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("16진수가 아닌 문자는 위치와 관계없이 스칼라 구현과 같은 예외를 던진다")
+    void decodeHex_InvalidCharacter_ThrowsLikeScalar() {
+        byte[] invalid = {'g', 'G', 'z', ' ', '/', ':', '@', '`', (byte) 0x80, (byte) 0xFF};
+
+        for (int length = 1; length <= MAX_LENGTH; length++) {
+            byte[] hex = new byte[length * 2];
+            Arrays.fill(hex, (byte) 'a');
+            int position = random.nextInt(hex.length);
+            hex[position] = invalid[random.nextInt(invalid.length)];
+
+            IllegalArgumentException expected = assertThrows(IllegalArgumentException.class,
+                () -> SCALAR.decodeHex(hex, new byte[hex.length / 2]));
+            IllegalArgumentException actual = assertThrows(IllegalArgumentException.class,
+                () -> vector.decodeHex(hex, new byte[hex.length / 2]), "length " + length + ", position " + position);
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("ASCII 대소문자 변환 결과와 변경 여부가 스칼라 구현과 같다")
+    void toLowerUpperCase_AllLengths_MatchesScalar() {
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            char[] chars = randomChars(length);
+
+            char[] expectedLower = chars.clone();
+            char[] actualLower = chars.clone();
+            assertEquals(SCALAR.toLowerCase(expectedLower), vector.toLowerCase(actualLower), "length " + length);
+            assertArrayEquals(expectedLower, actualLower, "length " + length);
+
+            char[] expectedUpper = chars.clone();
+            char[] actualUpper = chars.clone();
+            assertEquals(SCALAR.toUpperCase(expectedUpper), vector.toUpperCase(actualUpper), "length " + length);
+            assertArrayEquals(expectedUpper, actualUpper, "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("변경할 문자가 없으면 두 구현 모두 false를 반환한다")
+    void toLowerUpperCase_NothingToChange_ReturnsFalse() {
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            char[] digits = new char[length];
+            Arrays.fill(digits, '7');
+
+            assertFalse(vector.toLowerCase(digits.clone()), "length " + length);
+            assertFalse(vector.toUpperCase(digits.clone()), "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("공백 판별 결과가 모든 위치의 비공백 문자에 대해 스칼라 구현과 같다")
+    void isBlank_NonBlankAtAnyPosition_MatchesScalar() {
+        char[] blanks = {' ', '\t', '\n', '\r', '\0', '\u001F'};
+        char[] nonBlanks = {'!', 'a', '\u007F', '\u00A0', '\u3000', '\uFFFF'};
+
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = blanks[random.nextInt(blanks.length)];
+            }
+            assertEquals(SCALAR.isBlank(chars, length), vector.isBlank(chars, length), "length " + length);
+
+            for (int position = 0; position < length; position++) {
+                char saved = chars[position];
+                chars[position] = nonBlanks[random.nextInt(nonBlanks.length)];
+                assertFalse(vector.isBlank(chars, length), "length " + length + ", position " + position);
+                assertTrue(vector.isBlank(chars, position), "length " + position);
+                chars[position] = saved;
+            }
+        }
+    }
+
+    /**
+     * ASCII 경계 문자와 비ASCII 문자를 포함한 무작위 문자 배열을 생성합니다.
+     */
+    private char[] randomChars(int length) {
+        char[] pool = {'@', 'A', 'M', 'Z', '[', '`', 'a', 'm', 'z', '{', '0', ' ', '\u00C0', '\u00E0', '\u0130', '\uFF21'};
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = pool[random.nextInt(pool.length)];
+        }
+        return chars;
+    }
+}